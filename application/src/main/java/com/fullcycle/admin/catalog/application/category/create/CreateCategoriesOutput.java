@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record CreateCategoriesOutput(List<CreateCategoryOutput> created, List<Failure> failures) {
+    public static CreateCategoriesOutput from(final List<CreateCategoryOutput> created, final List<Failure> failures) {
+        return new CreateCategoriesOutput(List.copyOf(created), List.copyOf(failures));
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public record Failure(int index, Notification notification) {
+        public static Failure from(final int index, final Notification notification) {
+            return new Failure(index, notification);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class CreateCategoriesUseCase extends UseCase<List<CreateCategoryCommand>, CreateCategoriesOutput> {}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesOutput.Failure;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' must be greater than zero");
+        }
+
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public CreateCategoriesOutput execute(final List<CreateCategoryCommand> commands) {
+        final Map<Integer, Category> valid = new LinkedHashMap<>();
+        final List<Failure> failures = new ArrayList<>();
+
+        for (int index = 0; index < commands.size(); index++) {
+            final CreateCategoryCommand command = commands.get(index);
+            final Category category = Category.newCategory(command.name(), command.description(), command.isActive());
+            final Notification notification = Notification.create();
+
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                failures.add(Failure.from(index, notification));
+            } else {
+                valid.put(index, category);
+            }
+        }
+
+        final List<CreateCategoryOutput> created = new ArrayList<>();
+        final List<Map.Entry<Integer, Category>> entries = new ArrayList<>(valid.entrySet());
+
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            final List<Map.Entry<Integer, Category>> chunk = entries.subList(from, Math.min(entries.size(), from + chunkSize));
+            final List<Category> categories = chunk.stream().map(Map.Entry::getValue).toList();
+
+            Try(() -> categoryGateway.createAll(categories))
+                .onSuccess(persisted -> persisted.stream().map(CreateCategoryOutput::from).forEach(created::add))
+                .onFailure(t -> chunk.forEach(entry -> failures.add(Failure.from(entry.getKey(), Notification.create(t)))));
+        }
+
+        failures.sort(Comparator.comparingInt(Failure::index));
+
+        return CreateCategoriesOutput.from(created, failures);
+    }
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesOutput.Failure;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+    public static final int DEFAULT_MAX_REPORTED_FAILURES = 1000;
+
+    private final CategoryGateway categoryGateway;
+    private final int maxReportedFailures;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_MAX_REPORTED_FAILURES);
+    }
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway, final int maxReportedFailures) {
+        if (maxReportedFailures < 0) {
+            throw new IllegalArgumentException("'maxReportedFailures' must not be negative");
+        }
+
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final Iterator<ImportCategoryCommand> commands) {
+        final ValidCategories categories = new ValidCategories(Objects.requireNonNull(commands), maxReportedFailures);
+        final long imported = categoryGateway.importAll(categories);
+
+        while (categories.hasNext()) {
+            categories.next();
+        }
+
+        return ImportCategoriesOutput.from(imported, categories.failed, categories.failures);
+    }
+
+    private static final class ValidCategories implements Iterator<Category> {
+        private final Iterator<ImportCategoryCommand> commands;
+        private final int maxReportedFailures;
+        private final List<Failure> failures = new ArrayList<>();
+        private long failed;
+        private Category next;
+
+        private ValidCategories(final Iterator<ImportCategoryCommand> commands, final int maxReportedFailures) {
+            this.commands = commands;
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && commands.hasNext()) {
+                next = validate(commands.next());
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public Category next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Category category = next;
+            next = null;
+            return category;
+        }
+
+        private Category validate(final ImportCategoryCommand command) {
+            if (command.isMalformed()) {
+                fail(command.line(), Notification.create(command.error()));
+                return null;
+            }
+
+            final Category category = Category.newCategory(command.name(), command.description(), command.isActive());
+            final Notification notification = Notification.create();
+
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                fail(command.line(), notification);
+                return null;
+            }
+
+            return category;
+        }
+
+        private void fail(final long line, final Notification notification) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(Failure.from(line, notification));
+            }
+        }
+    }
+}
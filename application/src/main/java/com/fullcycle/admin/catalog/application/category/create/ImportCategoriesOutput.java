@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record ImportCategoriesOutput(long imported, long failed, List<Failure> failures) {
+    public static ImportCategoriesOutput from(final long imported, final long failed, final List<Failure> failures) {
+        return new ImportCategoriesOutput(imported, failed, List.copyOf(failures));
+    }
+
+    public boolean hasFailures() {
+        return failed > 0;
+    }
+
+    public record Failure(long line, Notification notification) {
+        public static Failure from(final long line, final Notification notification) {
+            return new Failure(line, notification);
+        }
+    }
+}
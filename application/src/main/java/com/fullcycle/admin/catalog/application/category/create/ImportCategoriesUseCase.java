@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.Iterator;
+
+public abstract class ImportCategoriesUseCase extends UseCase<Iterator<ImportCategoryCommand>, ImportCategoriesOutput> {}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+public record ImportCategoryCommand(long line, String name, String description, boolean isActive, Error error) {
+    public static ImportCategoryCommand from(
+        final long line,
+        final String name,
+        final String description,
+        final boolean isActive
+    ) {
+        return new ImportCategoryCommand(line, name, description, isActive, null);
+    }
+
+    public static ImportCategoryCommand malformed(final long line, final Error error) {
+        return new ImportCategoryCommand(line, null, null, false, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
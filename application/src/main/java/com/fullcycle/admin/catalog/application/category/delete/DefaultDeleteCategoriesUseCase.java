@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.application.category.delete;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+    }
+
+    @Override
+    public DeleteCategoriesOutput execute(final DeleteCategoriesCommand command) {
+        if (command.hasIds()) {
+            final List<CategoryID> ids = command.ids().stream()
+                .map(this::parseUUID)
+                .flatMap(Optional::stream)
+                .map(CategoryID::from)
+                .toList();
+
+            return DeleteCategoriesOutput.from(ids.isEmpty() ? 0 : categoryGateway.deleteAllById(ids));
+        }
+
+        if (command.terms() == null || command.terms().isBlank()) {
+            throw DomainException.from(Error.of("'ids' or 'search' must be informed"));
+        }
+
+        final CategorySearchQuery query = new CategorySearchQuery(
+            0, 0, command.terms(), "name", "asc", null, CountStrategy.NONE, command.mode()
+        );
+
+        return DeleteCategoriesOutput.from(categoryGateway.deleteAll(query));
+    }
+
+    private Optional<UUID> parseUUID(final String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (final Exception e) {
+            return Optional.empty();
+        }
+    }
+}
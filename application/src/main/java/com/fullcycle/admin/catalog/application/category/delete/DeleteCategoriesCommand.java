@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalog.application.category.delete;
+
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+
+import java.util.List;
+
+public record DeleteCategoriesCommand(List<String> ids, String terms, SearchMode mode) {
+    public static DeleteCategoriesCommand from(final List<String> ids, final String terms, final SearchMode mode) {
+        return new DeleteCategoriesCommand(ids == null ? List.of() : List.copyOf(ids), terms, mode);
+    }
+
+    public boolean hasIds() {
+        return !ids.isEmpty();
+    }
+}
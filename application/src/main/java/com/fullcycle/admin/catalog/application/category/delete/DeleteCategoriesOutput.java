@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalog.application.category.delete;
+
+public record DeleteCategoriesOutput(long deleted) {
+    public static DeleteCategoriesOutput from(final long deleted) {
+        return new DeleteCategoriesOutput(deleted);
+    }
+}
@@ -0,0 +1,5 @@
+package com.fullcycle.admin.catalog.application.category.delete;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+
+public abstract class DeleteCategoriesUseCase extends UseCase<DeleteCategoriesCommand, DeleteCategoriesOutput> {}
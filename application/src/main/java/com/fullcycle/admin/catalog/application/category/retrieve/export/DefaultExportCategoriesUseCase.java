@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+    }
+
+    @Override
+    public Long execute(final Consumer<CategoryListOutput> consumer) {
+        Objects.requireNonNull(consumer, "'consumer' is required");
+        return categoryGateway.exportAll(summary -> consumer.accept(CategoryListOutput.from(summary)));
+    }
+}
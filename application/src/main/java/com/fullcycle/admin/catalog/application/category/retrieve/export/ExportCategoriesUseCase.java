@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.UseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UseCase<Consumer<CategoryListOutput>, Long> {}
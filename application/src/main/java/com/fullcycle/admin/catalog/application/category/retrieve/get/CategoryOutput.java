@@ -12,7 +12,8 @@ public record CategoryOutput(
     boolean isActive,
     Instant createdAt,
     Instant updatedAt,
-    Instant deletedAt
+    Instant deletedAt,
+    long version
 ) {
     public static CategoryOutput from(final Category category) {
         return new CategoryOutput(
@@ -22,7 +23,8 @@ public record CategoryOutput(
             category.isActive(),
             category.getCreatedAt(),
             category.getUpdatedAt(),
-            category.getDeletedAt()
+            category.getDeletedAt(),
+            category.getVersion()
         );
     }
 }
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalog.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -25,4 +26,16 @@ public record CategoryListOutput(
             category.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategorySummary summary) {
+        return new CategoryListOutput(
+            summary.id(),
+            summary.name(),
+            summary.description(),
+            summary.isActive(),
+            summary.createdAt(),
+            summary.updatedAt(),
+            summary.deletedAt()
+        );
+    }
 }
@@ -15,6 +15,6 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(CategorySearchQuery query) {
-        return categoryGateway.findAll(query).map(CategoryListOutput::from);
+        return categoryGateway.findAllSummaries(query).map(CategoryListOutput::from);
     }
 }
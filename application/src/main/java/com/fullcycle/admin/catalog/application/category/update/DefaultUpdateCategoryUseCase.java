@@ -3,11 +3,15 @@ package com.fullcycle.admin.catalog.application.category.update;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import io.vavr.control.Either;
+import io.vavr.control.Try;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static io.vavr.API.Left;
@@ -22,24 +26,40 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(UpdateCategoryCommand command) {
-        final Category foundCategory = categoryGateway.findById(command.id())
-            .orElseThrow(categoryNotFound(command.id()));
-
-        final Category categoryToUpdate = foundCategory.update(command.name(), command.description(), command.isActive());
+        final Instant now = Instant.now();
+        final Category categoryToUpdate = Category.from(
+            command.id(),
+            command.name(),
+            command.description(),
+            command.isActive(),
+            now,
+            now,
+            command.isActive() ? null : now
+        );
         final Notification notification = Notification.create();
 
         categoryToUpdate.validate(notification);
 
-        return notification.hasErrors() ? Left(notification) : update(categoryToUpdate);
+        return notification.hasErrors() ? Left(notification) : update(categoryToUpdate, command.expectedVersion());
     }
 
     private Supplier<NotFoundException> categoryNotFound(final CategoryID categoryId) {
         return () -> NotFoundException.from(Category.class, categoryId.toString());
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return Try(() -> categoryGateway.update(category))
-            .toEither()
-            .bimap(Notification::create, UpdateCategoryOutput::from);
+    private Either<Notification, UpdateCategoryOutput> update(final Category category, final Long expectedVersion) {
+        final Try<Optional<Category>> updated = Try(() -> expectedVersion == null
+            ? categoryGateway.updateIfExists(category)
+            : categoryGateway.updateIfExists(category, expectedVersion));
+
+        // a stale version is a failed precondition, not a validation error, so it must reach the caller as is
+        if (updated.isFailure() && updated.getCause() instanceof ConflictException conflict) {
+            throw conflict;
+        }
+
+        return updated.toEither()
+            .mapLeft(Notification::create)
+            .map(updatedCategory -> updatedCategory.orElseThrow(categoryNotFound(category.getId())))
+            .map(UpdateCategoryOutput::from);
     }
 }
@@ -2,13 +2,33 @@ package com.fullcycle.admin.catalog.application.category.update;
 
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 
-public record UpdateCategoryCommand(CategoryID id, String name, String description, boolean isActive) {
+public record UpdateCategoryCommand(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Long expectedVersion
+) {
     public static UpdateCategoryCommand from(
         final CategoryID id,
         final String name,
         final String description,
         final boolean isActive
     ) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand from(
+        final CategoryID id,
+        final String name,
+        final String description,
+        final boolean isActive,
+        final Long expectedVersion
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, expectedVersion);
+    }
+
+    public boolean hasExpectedVersion() {
+        return expectedVersion != null;
     }
 }
@@ -1,10 +1,9 @@
 package com.fullcycle.admin.catalog.application.category.update;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
-import com.fullcycle.admin.catalog.domain.category.CategoryID;
 
-public record UpdateCategoryOutput(String id) {
+public record UpdateCategoryOutput(String id, long version) {
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.getId().toString());
+        return new UpdateCategoryOutput(category.getId().toString(), category.getVersion());
     }
 }
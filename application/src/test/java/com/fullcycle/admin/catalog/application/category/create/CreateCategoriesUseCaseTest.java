@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenValidCommands_whenCallCreateCategories_shouldPersistThemInChunks() {
+        final DefaultCreateCategoriesUseCase useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 2);
+        final List<CreateCategoryCommand> commands = List.of(
+            CreateCategoryCommand.from("filmes", "filmes", true),
+            CreateCategoryCommand.from("series", "series", true),
+            CreateCategoryCommand.from("desenhos", null, false)
+        );
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        final CreateCategoriesOutput output = useCase.execute(commands);
+
+        assertEquals(3, output.created().size());
+        assertFalse(output.hasFailures());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1));
+    }
+
+    @Test
+    public void givenSomeInvalidCommands_whenCallCreateCategories_shouldReturnANotificationPerInvalidItem() {
+        final DefaultCreateCategoriesUseCase useCase = new DefaultCreateCategoriesUseCase(categoryGateway);
+        final List<CreateCategoryCommand> commands = List.of(
+            CreateCategoryCommand.from(null, "descrição", true),
+            CreateCategoryCommand.from("filmes", "filmes", true),
+            CreateCategoryCommand.from(" ", "descrição", true)
+        );
+
+        when(categoryGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        final CreateCategoriesOutput output = useCase.execute(commands);
+
+        assertEquals(1, output.created().size());
+        assertEquals(2, output.failures().size());
+        assertEquals(0, output.failures().get(0).index());
+        assertEquals("'name' cannot be null", output.failures().get(0).notification().firstError().message());
+        assertEquals(2, output.failures().get(1).index());
+        assertEquals("'name' cannot be empty", output.failures().get(1).notification().firstError().message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+            categories.size() == 1 && "filmes".equals(categories.get(0).getName())
+        ));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallCreateCategories_shouldFailOnlyTheItemsOfThatChunk() {
+        final DefaultCreateCategoriesUseCase useCase = new DefaultCreateCategoriesUseCase(categoryGateway, 1);
+        final List<CreateCategoryCommand> commands = List.of(
+            CreateCategoryCommand.from("filmes", "filmes", true),
+            CreateCategoryCommand.from("series", "series", true)
+        );
+
+        when(categoryGateway.createAll(anyList()))
+            .thenAnswer(returnsFirstArg())
+            .thenThrow(new IllegalStateException("Gateway error"));
+
+        final CreateCategoriesOutput output = useCase.execute(commands);
+
+        assertEquals(1, output.created().size());
+        assertTrue(output.hasFailures());
+        assertEquals(1, output.failures().get(0).index());
+        assertEquals("Gateway error", output.failures().get(0).notification().firstError().message());
+
+        verify(categoryGateway, times(2)).createAll(any());
+    }
+}
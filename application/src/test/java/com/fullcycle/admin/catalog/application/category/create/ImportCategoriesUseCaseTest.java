@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalog.application.category.create;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenValidCommands_whenCallImportCategories_shouldStreamThemToTheGateway() {
+        final DefaultImportCategoriesUseCase useCase = new DefaultImportCategoriesUseCase(categoryGateway);
+        final List<ImportCategoryCommand> commands = List.of(
+            ImportCategoryCommand.from(1, "filmes", "filmes", true),
+            ImportCategoryCommand.from(2, "series", null, false)
+        );
+        final List<Category> imported = new ArrayList<>();
+
+        when(categoryGateway.importAll(any())).thenAnswer(drainInto(imported));
+
+        final ImportCategoriesOutput output = useCase.execute(commands.iterator());
+
+        assertEquals(2, output.imported());
+        assertFalse(output.hasFailures());
+        assertEquals(List.of("filmes", "series"), imported.stream().map(Category::getName).toList());
+        assertFalse(imported.get(1).isActive());
+    }
+
+    @Test
+    public void givenInvalidAndMalformedCommands_whenCallImportCategories_shouldReportThemByLine() {
+        final DefaultImportCategoriesUseCase useCase = new DefaultImportCategoriesUseCase(categoryGateway);
+        final List<ImportCategoryCommand> commands = List.of(
+            ImportCategoryCommand.from(1, "filmes", null, true),
+            ImportCategoryCommand.from(2, null, null, true),
+            ImportCategoryCommand.malformed(3, Error.of("'line' must be a JSON object")),
+            ImportCategoryCommand.from(4, "series", null, true)
+        );
+        final List<Category> imported = new ArrayList<>();
+
+        when(categoryGateway.importAll(any())).thenAnswer(drainInto(imported));
+
+        final ImportCategoriesOutput output = useCase.execute(commands.iterator());
+
+        assertEquals(2, output.imported());
+        assertEquals(2, output.failed());
+        assertTrue(output.hasFailures());
+        assertEquals(2, output.failures().get(0).line());
+        assertEquals("'name' cannot be null", output.failures().get(0).notification().firstError().message());
+        assertEquals(3, output.failures().get(1).line());
+        assertEquals("'line' must be a JSON object", output.failures().get(1).notification().firstError().message());
+        assertEquals(List.of("filmes", "series"), imported.stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenMoreFailuresThanReported_whenCallImportCategories_shouldCountAllButReportOnlyTheFirst() {
+        final DefaultImportCategoriesUseCase useCase = new DefaultImportCategoriesUseCase(categoryGateway, 2);
+        final Iterator<ImportCategoryCommand> commands = LongStream.rangeClosed(1, 5)
+            .mapToObj(line -> ImportCategoryCommand.from(line, "", null, true))
+            .iterator();
+
+        when(categoryGateway.importAll(any())).thenAnswer(drainInto(new ArrayList<>()));
+
+        final ImportCategoriesOutput output = useCase.execute(commands);
+
+        assertEquals(0, output.imported());
+        assertEquals(5, output.failed());
+        assertEquals(List.of(1L, 2L), output.failures().stream().map(ImportCategoriesOutput.Failure::line).toList());
+    }
+
+    @Test
+    public void givenAGatewayThatStopsEarly_whenCallImportCategories_shouldStillCountTrailingFailures() {
+        final DefaultImportCategoriesUseCase useCase = new DefaultImportCategoriesUseCase(categoryGateway);
+        final List<ImportCategoryCommand> commands = List.of(
+            ImportCategoryCommand.from(1, "filmes", null, true),
+            ImportCategoryCommand.from(2, null, null, true)
+        );
+
+        when(categoryGateway.importAll(any())).thenAnswer(invocation -> {
+            final Iterator<Category> categories = invocation.getArgument(0);
+            categories.next();
+            return 1L;
+        });
+
+        final ImportCategoriesOutput output = useCase.execute(commands.iterator());
+
+        assertEquals(1, output.imported());
+        assertEquals(1, output.failed());
+    }
+
+    private static Answer<Long> drainInto(final List<Category> imported) {
+        return invocation -> {
+            final Iterator<Category> categories = invocation.getArgument(0);
+            categories.forEachRemaining(imported::add);
+            return (long) imported.size();
+        };
+    }
+}
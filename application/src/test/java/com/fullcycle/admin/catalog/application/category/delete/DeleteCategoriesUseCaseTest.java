@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalog.application.category.delete;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Test
+    public void givenIds_whenCallDeleteCategories_shouldDeleteValidIdsOnly() {
+        final CategoryID id = CategoryID.unique();
+
+        when(categoryGateway.deleteAllById(eq(List.of(id)))).thenReturn(1L);
+
+        final DeleteCategoriesOutput output = useCase.execute(
+            DeleteCategoriesCommand.from(List.of(id.toString(), "invalid"), "", SearchMode.CONTAINS)
+        );
+
+        assertEquals(1, output.deleted());
+        verify(categoryGateway, times(0)).deleteAll(any());
+    }
+
+    @Test
+    public void givenASearchFilter_whenCallDeleteCategories_shouldDeleteMatchingCategories() {
+        when(categoryGateway.deleteAll(any())).thenReturn(3L);
+
+        final DeleteCategoriesOutput output = useCase.execute(
+            DeleteCategoriesCommand.from(null, "filmes", SearchMode.FULL_TEXT)
+        );
+
+        assertEquals(3, output.deleted());
+        verify(categoryGateway, times(1)).deleteAll(argThat(query ->
+            "filmes".equals(query.terms()) && query.mode() == SearchMode.FULL_TEXT
+        ));
+    }
+
+    @Test
+    public void givenNeitherIdsNorSearch_whenCallDeleteCategories_shouldThrowDomainException() {
+        final DeleteCategoriesCommand command = DeleteCategoriesCommand.from(List.of(), " ", SearchMode.CONTAINS);
+
+        final DomainException exception = assertThrows(DomainException.class, () -> useCase.execute(command));
+
+        assertEquals("'ids' or 'search' must be informed", exception.getErrors().get(0).message());
+        verify(categoryGateway, times(0)).deleteAll(any());
+        verify(categoryGateway, times(0)).deleteAllById(any());
+    }
+}
@@ -14,10 +14,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteCategoryUseCaseTest {
@@ -36,7 +36,7 @@ public class DeleteCategoryUseCaseTest {
     public void givenValidId_whenCallCategoryDeletion_shouldBeOK() {
         final CategoryID id = CategoryID.unique();
 
-        doNothing().when(categoryGateway).deleteById(eq(id));
+        when(categoryGateway.deleteById(eq(id))).thenReturn(1L);
 
         assertDoesNotThrow(() -> useCase.execute(id.toString()));
 
@@ -47,7 +47,7 @@ public class DeleteCategoryUseCaseTest {
     public void givenInvalidId_whenCallCategoryDeletion_shouldBeOK() {
         final CategoryID id = CategoryID.unique();
 
-        doNothing().when(categoryGateway).deleteById(eq(id));
+        when(categoryGateway.deleteById(eq(id))).thenReturn(1L);
 
         assertDoesNotThrow(() -> useCase.execute(id.toString()));
 
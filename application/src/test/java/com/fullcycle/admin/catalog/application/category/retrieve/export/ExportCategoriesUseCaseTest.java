@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalog.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallExportCategories_shouldForwardEachCategoryAsOutput() {
+        final List<CategorySummary> summaries = List.of(
+            CategorySummary.from(Category.newCategory("filme", "descrição", true)),
+            CategorySummary.from(Category.newCategory("série", null, false))
+        );
+
+        when(categoryGateway.exportAll(any())).thenAnswer(invocation -> {
+            final Consumer<CategorySummary> consumer = invocation.getArgument(0);
+            summaries.forEach(consumer);
+            return (long) summaries.size();
+        });
+
+        final List<CategoryListOutput> exported = new ArrayList<>();
+        final long count = useCase.execute(exported::add);
+
+        assertEquals(2, count);
+        assertEquals(summaries.stream().map(CategoryListOutput::from).toList(), exported);
+        verify(categoryGateway).exportAll(any());
+    }
+
+    @Test
+    public void givenANullConsumer_whenCallExportCategories_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class, () -> useCase.execute(null));
+
+        verifyNoInteractions(categoryGateway);
+    }
+}
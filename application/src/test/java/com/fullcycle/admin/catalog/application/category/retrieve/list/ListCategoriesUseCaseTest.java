@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalog.application.category.retrieve.list;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,17 +40,17 @@ public class ListCategoriesUseCaseTest {
     @Test
     public void givenValidQuery_whenCallListCategories_shouldReturnCategories() {
         final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "createdAt", "desc");
-        final List<Category> categories = List.of(
-            Category.newCategory("filme", "descrição", true),
-            Category.newCategory("série", "descrição", true),
-            Category.newCategory("desenho", "descrição", true)
+        final List<CategorySummary> categories = List.of(
+            CategorySummary.from(Category.newCategory("filme", "descrição", true)),
+            CategorySummary.from(Category.newCategory("série", "descrição", true)),
+            CategorySummary.from(Category.newCategory("desenho", "descrição", true))
         );
-        final Pagination<Category> pagination = new Pagination<>(0, 10, 3, categories);
+        final Pagination<CategorySummary> pagination = new Pagination<>(0, 10, 3, categories);
 
         final int expectedItemsCount = 3;
         final Pagination<CategoryListOutput> expectedResult = pagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(query))).thenReturn(pagination);
+        when(categoryGateway.findAllSummaries(eq(query))).thenReturn(pagination);
 
         final Pagination<CategoryListOutput> result = useCase.execute(query);
 
@@ -60,18 +61,18 @@ public class ListCategoriesUseCaseTest {
         assertEquals(10, result.perPage());
         assertEquals(3, result.total());
 
-        verify(categoryGateway, times(1)).findAll(eq(query));
+        verify(categoryGateway, times(1)).findAllSummaries(eq(query));
     }
 
     @Test
     public void givenValidQuery_whenHasNoResult_shouldReturnEmptyCategories() {
         final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "createdAt", "desc");
-        final Pagination<Category> pagination = new Pagination<>(0, 10, 0, Collections.emptyList());
+        final Pagination<CategorySummary> pagination = new Pagination<>(0, 10, 0, Collections.emptyList());
 
         final int expectedItemsCount = 0;
         final Pagination<CategoryListOutput> expectedResult = pagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(query))).thenReturn(pagination);
+        when(categoryGateway.findAllSummaries(eq(query))).thenReturn(pagination);
 
         final Pagination<CategoryListOutput> result = useCase.execute(query);
 
@@ -82,20 +83,20 @@ public class ListCategoriesUseCaseTest {
         assertEquals(10, result.perPage());
         assertEquals(0, result.total());
 
-        verify(categoryGateway, times(1)).findAll(eq(query));
+        verify(categoryGateway, times(1)).findAllSummaries(eq(query));
     }
 
     @Test
     public void givenValidQuery_whenGatewayThrowsAnException_shouldThrowException() {
         final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "createdAt", "desc");
 
-        when(categoryGateway.findAll(eq(query))).thenThrow(new IllegalStateException("Gateway error"));
+        when(categoryGateway.findAllSummaries(eq(query))).thenThrow(new IllegalStateException("Gateway error"));
 
         final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> useCase.execute(query));
 
         assertNotNull(exception);
         assertEquals("Gateway error", exception.getMessage());
 
-        verify(categoryGateway, times(1)).findAll(eq(query));
+        verify(categoryGateway, times(1)).findAllSummaries(eq(query));
     }
 }
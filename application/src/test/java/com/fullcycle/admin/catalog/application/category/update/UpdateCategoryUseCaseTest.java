@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalog.application.category.update;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
@@ -22,7 +23,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,16 +48,15 @@ public class UpdateCategoryUseCaseTest {
         final Category foundCategory = Category.newCategory("film", null, true);
         final UpdateCategoryCommand command = UpdateCategoryCommand.from(foundCategory.getId(), "filme", "descrição", true);
 
-        when(categoryGateway.findById(eq(foundCategory.getId()))).thenReturn(Optional.of(foundCategory));
-        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(categoryGateway.updateIfExists(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         final UpdateCategoryOutput output = useCase.execute(command).get();
 
         assertNotNull(output);
         assertNotNull(output.id());
 
-        verify(categoryGateway, times(1)).findById(eq(foundCategory.getId()));
-        verify(categoryGateway, times(1)).update(argThat(updatedCategory -> {
+        verify(categoryGateway, times(0)).findById(any());
+        verify(categoryGateway, times(1)).updateIfExists(argThat(updatedCategory -> {
             assertNotNull(updatedCategory);
             assertNotNull(updatedCategory.getId());
             assertNotNull(updatedCategory.getCreatedAt());
@@ -66,7 +65,6 @@ public class UpdateCategoryUseCaseTest {
             assertEquals("filme", updatedCategory.getName());
             assertEquals("descrição", updatedCategory.getDescription());
             assertEquals(foundCategory.getId(), updatedCategory.getId());
-            assertEquals(foundCategory.getCreatedAt(), updatedCategory.getCreatedAt());
             assertTrue(updatedCategory.isActive());
 
             return true;
@@ -85,7 +83,6 @@ public class UpdateCategoryUseCaseTest {
             true
         );
 
-        when(categoryGateway.findById(eq(foundCategory.getId()))).thenReturn(Optional.of(foundCategory));
 
         final Notification notification = useCase.execute(command).getLeft();
 
@@ -93,8 +90,8 @@ public class UpdateCategoryUseCaseTest {
         assertEquals(expectedErrorMessage, notification.firstError().message());
         assertEquals(expectedErrorCount, notification.getErrors().size());
 
-        verify(categoryGateway, times(1)).findById(eq(foundCategory.getId()));
-        verify(categoryGateway, times(0)).update(any());
+        verify(categoryGateway, times(0)).findById(any());
+        verify(categoryGateway, times(0)).updateIfExists(any());
     }
 
     @Test
@@ -107,16 +104,15 @@ public class UpdateCategoryUseCaseTest {
             false
         );
 
-        when(categoryGateway.findById(eq(foundCategory.getId()))).thenReturn(Optional.of(foundCategory));
-        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(categoryGateway.updateIfExists(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         final UpdateCategoryOutput output = useCase.execute(command).get();
 
         assertNotNull(output);
         assertNotNull(output.id());
 
-        verify(categoryGateway, times(1)).findById(eq(foundCategory.getId()));
-        verify(categoryGateway, times(1)).update(argThat(updatedCategory -> {
+        verify(categoryGateway, times(0)).findById(any());
+        verify(categoryGateway, times(1)).updateIfExists(argThat(updatedCategory -> {
             assertNotNull(updatedCategory);
             assertNotNull(updatedCategory.getDeletedAt());
             assertFalse(updatedCategory.isActive());
@@ -135,8 +131,7 @@ public class UpdateCategoryUseCaseTest {
             true
         );
 
-        when(categoryGateway.findById(eq(foundCategory.getId()))).thenReturn(Optional.of(foundCategory));
-        when(categoryGateway.update(any())).thenThrow(new IllegalStateException("Gateway error"));
+        when(categoryGateway.updateIfExists(any())).thenThrow(new IllegalStateException("Gateway error"));
 
         final Notification notification = useCase.execute(command).getLeft();
 
@@ -144,8 +139,8 @@ public class UpdateCategoryUseCaseTest {
         assertEquals("Gateway error", notification.firstError().message());
         assertEquals(1, notification.getErrors().size());
 
-        verify(categoryGateway, times(1)).findById(eq(foundCategory.getId()));
-        verify(categoryGateway, times(1)).update(argThat(category -> {
+        verify(categoryGateway, times(0)).findById(any());
+        verify(categoryGateway, times(1)).updateIfExists(argThat(category -> {
             assertNotNull(category);
             assertNotNull(category.getId());
             assertNotNull(category.getCreatedAt());
@@ -164,9 +159,9 @@ public class UpdateCategoryUseCaseTest {
         final CategoryID categoryID = CategoryID.unique();
         final String expectedErrorMessage = "Category with id " + categoryID + " not found";
         final int expectedErrorCount = 0;
-        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, null, null, false);
+        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, "filme", null, false);
 
-        when(categoryGateway.findById(eq(categoryID))).thenReturn(Optional.empty());
+        when(categoryGateway.updateIfExists(any())).thenReturn(Optional.empty());
 
         final NotFoundException exception = assertThrows(NotFoundException.class, () -> useCase.execute(command));
 
@@ -174,7 +169,49 @@ public class UpdateCategoryUseCaseTest {
         assertEquals(expectedErrorMessage, exception.getMessage());
         assertEquals(expectedErrorCount, exception.getErrors().size());
 
-        verify(categoryGateway, times(1)).findById(eq(categoryID));
-        verify(categoryGateway, times(0)).update(any());
+        verify(categoryGateway, times(0)).findById(any());
+        verify(categoryGateway, times(1)).updateIfExists(argThat(category -> categoryID.equals(category.getId())));
+    }
+
+    @Test
+    public void givenAnExpectedVersion_whenCallCategoryUpdate_shouldUpdateOnlyThatVersion() {
+        final CategoryID categoryID = CategoryID.unique();
+        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, "filme", null, true, 3L);
+
+        when(categoryGateway.updateIfExists(any(), eq(3L))).thenAnswer(invocation -> {
+            final Category category = invocation.getArgument(0);
+            return Optional.of(Category.from(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                4
+            ));
+        });
+
+        final UpdateCategoryOutput output = useCase.execute(command).get();
+
+        assertEquals(categoryID.toString(), output.id());
+        assertEquals(4, output.version());
+
+        verify(categoryGateway, times(0)).updateIfExists(any());
+        verify(categoryGateway, times(1)).updateIfExists(argThat(category -> categoryID.equals(category.getId())), eq(3L));
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallCategoryUpdate_shouldThrowConflictException() {
+        final CategoryID categoryID = CategoryID.unique();
+        final String expectedErrorMessage = "Category with id " + categoryID + " is not at version 3";
+        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, "filme", null, true, 3L);
+
+        when(categoryGateway.updateIfExists(any(), eq(3L)))
+            .thenThrow(ConflictException.from(Category.class, categoryID.toString(), 3));
+
+        final ConflictException exception = assertThrows(ConflictException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, exception.getMessage());
     }
 }
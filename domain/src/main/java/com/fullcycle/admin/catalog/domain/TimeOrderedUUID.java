@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalog.domain;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TimeOrderedUUID {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    // ids are public, so the random bits must not be guessable (RFC 9562, section 6.9)
+    private static final ThreadLocal<RandomBuffer> RANDOM = ThreadLocal.withInitial(RandomBuffer::new);
+
+    private TimeOrderedUUID() {}
+
+    public static UUID next() {
+        final long state = nextState(System.currentTimeMillis());
+        final long mostSignificantBits = (state >>> COUNTER_BITS) << 16 | VERSION | (state & COUNTER_MASK);
+        final long leastSignificantBits = RANDOM.get().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampOf(final UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("'uuid' is not a time-ordered UUID");
+        }
+
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(final long millis) {
+        final long candidate = millis << COUNTER_BITS;
+        while (true) {
+            final long last = LAST.get();
+            final long next = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    // draws from SecureRandom in blocks, so each id costs a buffer read instead of a SecureRandom call
+    private static final class RandomBuffer {
+        private static final int SIZE = 512;
+
+        private final SecureRandom random = new SecureRandom();
+        private final ByteBuffer buffer = ByteBuffer.allocate(SIZE).position(SIZE);
+
+        long nextLong() {
+            if (!buffer.hasRemaining()) {
+                random.nextBytes(buffer.array());
+                buffer.clear();
+            }
+
+            return buffer.getLong();
+        }
+    }
+}
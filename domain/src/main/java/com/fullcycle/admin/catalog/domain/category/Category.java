@@ -12,6 +12,7 @@ public class Category extends AggregateRoot<CategoryID> {
     private final Instant createdAt;
     private final Instant updatedAt;
     private final Instant deletedAt;
+    private final long version;
 
     private Category(
         final CategoryID id,
@@ -20,7 +21,8 @@ public class Category extends AggregateRoot<CategoryID> {
         final boolean isActive,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
         super(id);
         this.name = name;
@@ -29,12 +31,13 @@ public class Category extends AggregateRoot<CategoryID> {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category newCategory(final String name, final String description, final boolean isActive) {
         final Instant now = Instant.now();
         final Instant deletedAt = isActive ? null : now;
-        return new Category(CategoryID.unique(), name, description, isActive, now, now, deletedAt);
+        return new Category(CategoryID.unique(), name, description, isActive, now, now, deletedAt, 0);
     }
 
     public static Category from(
@@ -46,7 +49,20 @@ public class Category extends AggregateRoot<CategoryID> {
         final Instant updatedAt,
         final Instant deletedAt
     ) {
-        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt);
+        return from(id, name, description, isActive, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category from(
+        final CategoryID id,
+        final String name,
+        final String description,
+        final boolean isActive,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final long version
+    ) {
+        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
     }
 
     public CategoryID getId() {
@@ -61,18 +77,18 @@ public class Category extends AggregateRoot<CategoryID> {
     public Category deactivate() {
         final Instant now = Instant.now();
         final Instant deletionDate = deletedAt == null ? now : deletedAt;
-        return new Category(id, name, description, false, createdAt, now, deletionDate);
+        return new Category(id, name, description, false, createdAt, now, deletionDate, version);
     }
 
     public Category activate() {
         final Instant now = Instant.now();
-        return new Category(id, name, description, true, createdAt, now, null);
+        return new Category(id, name, description, true, createdAt, now, null, version);
     }
 
     public Category update(final String name, final String description, final boolean isActive) {
         final Instant now = Instant.now();
         final Instant deletionDate = isActive ? null : (deletedAt == null ? now : deletedAt);
-        return new Category(id, name, description, isActive, createdAt, now, deletionDate);
+        return new Category(id, name, description, isActive, createdAt, now, deletionDate, version);
     }
 
     public String getName() {
@@ -98,4 +114,8 @@ public class Category extends AggregateRoot<CategoryID> {
     public Instant getDeletedAt() {
         return deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
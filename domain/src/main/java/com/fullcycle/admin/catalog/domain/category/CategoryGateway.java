@@ -2,12 +2,23 @@ package com.fullcycle.admin.catalog.domain.category;
 
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category category);
-    void deleteById(CategoryID id);
+    List<Category> createAll(List<Category> categories);
+    long importAll(Iterator<Category> categories);
+    long deleteById(CategoryID id);
+    long deleteAllById(List<CategoryID> ids);
+    long deleteAll(CategorySearchQuery query);
     Optional<Category> findById(CategoryID id);
     Category update(Category category);
+    Optional<Category> updateIfExists(Category category);
+    Optional<Category> updateIfExists(Category category, long expectedVersion);
     Pagination<Category> findAll(CategorySearchQuery query);
+    Pagination<CategorySummary> findAllSummaries(CategorySearchQuery query);
+    long exportAll(Consumer<CategorySummary> consumer);
 }
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.category;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.TimeOrderedUUID;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return new CategoryID(UUID.randomUUID());
+        return new CategoryID(TimeOrderedUUID.next());
     }
 
     public static CategoryID from(final String value) {
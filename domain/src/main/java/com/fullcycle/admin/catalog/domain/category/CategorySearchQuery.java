@@ -1,3 +1,72 @@
 package com.fullcycle.admin.catalog.domain.category;
 
-public record CategorySearchQuery(int page, int perPage, String terms, String sort, String direction) {}
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+
+import java.util.Objects;
+
+public record CategorySearchQuery(
+    int page,
+    int perPage,
+    String terms,
+    String sort,
+    String direction,
+    String cursor,
+    CountStrategy count,
+    SearchMode mode
+) {
+    public CategorySearchQuery {
+        // cursor pages skip the count by default, the first page already reported it
+        count = Objects.requireNonNullElse(count, hasCursor(cursor) ? CountStrategy.NONE : CountStrategy.EXACT);
+        mode = Objects.requireNonNullElse(mode, SearchMode.CONTAINS);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, CountStrategy.EXACT, SearchMode.CONTAINS);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, null, SearchMode.CONTAINS);
+    }
+
+    public CategorySearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final CountStrategy count
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, count, SearchMode.CONTAINS);
+    }
+
+    public boolean hasCursor() {
+        return hasCursor(cursor);
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    public boolean isFullTextSearch() {
+        return mode == SearchMode.FULL_TEXT && hasTerms();
+    }
+
+    private static boolean hasCursor(final String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+}
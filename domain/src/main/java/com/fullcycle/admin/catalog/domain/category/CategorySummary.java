@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalog.domain.category;
+
+import java.time.Instant;
+
+public record CategorySummary(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    long version
+) {
+    public static CategorySummary from(final Category category) {
+        return new CategorySummary(
+            category.getId(),
+            category.getName(),
+            category.getDescription(),
+            category.isActive(),
+            category.getCreatedAt(),
+            category.getUpdatedAt(),
+            category.getDeletedAt(),
+            category.getVersion()
+        );
+    }
+
+    public Category toCategory() {
+        return Category.from(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.domain.exceptions;
+
+import com.fullcycle.admin.catalog.domain.AggregateRoot;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.List;
+
+public class ConflictException extends DomainException {
+    protected ConflictException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException from(
+        final Class<? extends AggregateRoot<?>> aggregate,
+        final String id,
+        final long expectedVersion
+    ) {
+        final String message = String.format("%s with id %s is not at version %d", aggregate.getSimpleName(), id, expectedVersion);
+        return new ConflictException(message, List.of(Error.of("'version' does not match the current version")));
+    }
+}
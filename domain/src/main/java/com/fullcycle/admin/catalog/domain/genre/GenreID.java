@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalog.domain.genre;
 
 import com.fullcycle.admin.catalog.domain.Identifier;
+import com.fullcycle.admin.catalog.domain.TimeOrderedUUID;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return new GenreID(UUID.randomUUID());
+        return new GenreID(TimeOrderedUUID.next());
     }
 
     public static GenreID from(final String value) {
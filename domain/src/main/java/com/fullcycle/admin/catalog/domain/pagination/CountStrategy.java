@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.Arrays;
+
+public enum CountStrategy {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountStrategy of(final String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+
+        return Arrays.stream(values())
+            .filter(strategy -> strategy.name().equalsIgnoreCase(value.trim()))
+            .findFirst()
+            .orElseThrow(() -> DomainException.from(Error.of("'count' must be one of exact, estimated or none")));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.Base64;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public record Cursor(String sort, String direction, String value, String id, boolean backward) {
+    private static final String SEPARATOR = "\n";
+    private static final String FORWARD = "n";
+    private static final String BACKWARD = "p";
+
+    public Cursor {
+        Objects.requireNonNull(sort, "'sort' is required");
+        Objects.requireNonNull(direction, "'direction' is required");
+        Objects.requireNonNull(value, "'value' is required");
+        Objects.requireNonNull(id, "'id' is required");
+    }
+
+    public static Cursor next(final String sort, final String direction, final String value, final String id) {
+        return new Cursor(sort, direction, value, id, false);
+    }
+
+    public static Cursor previous(final String sort, final String direction, final String value, final String id) {
+        return new Cursor(sort, direction, value, id, true);
+    }
+
+    public static Cursor decode(final String token) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+            final String[] parts = decoded.split(SEPARATOR, 5);
+            final boolean backward = switch (parts[0]) {
+                case FORWARD -> false;
+                case BACKWARD -> true;
+                default -> throw new IllegalArgumentException(parts[0]);
+            };
+
+            return new Cursor(parts[1], parts[2], parts[4], parts[3], backward);
+        } catch (final RuntimeException e) {
+            throw DomainException.from(Error.of("'cursor' is invalid"));
+        }
+    }
+
+    public String encode() {
+        final String raw = String.join(SEPARATOR, backward ? BACKWARD : FORWARD, sort, direction, id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    public boolean matches(final String sort, final String direction) {
+        return this.sort.equals(sort) && this.direction.equalsIgnoreCase(direction);
+    }
+}
@@ -5,9 +5,31 @@ import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
 
-public record Pagination<T>(int currentPage, int perPage, long total, List<T> items) {
+public record Pagination<T>(
+    int currentPage,
+    int perPage,
+    long total,
+    List<T> items,
+    boolean hasNext,
+    String nextCursor,
+    String prevCursor
+) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total, null, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> mappedCollection = items().stream().map(mapper).collect(toList());
-        return new Pagination<>(currentPage(), perPage(), total(), mappedCollection);
+        return new Pagination<>(
+            currentPage(),
+            perPage(),
+            total(),
+            mappedCollection,
+            hasNext(),
+            nextCursor(),
+            prevCursor()
+        );
     }
 }
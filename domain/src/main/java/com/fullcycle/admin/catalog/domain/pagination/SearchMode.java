@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.domain.pagination;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.Arrays;
+
+public enum SearchMode {
+    CONTAINS,
+    FULL_TEXT;
+
+    public static SearchMode of(final String value) {
+        if (value == null || value.isBlank()) {
+            return CONTAINS;
+        }
+
+        return Arrays.stream(values())
+            .filter(mode -> mode.name().equalsIgnoreCase(value.trim()))
+            .findFirst()
+            .orElseThrow(() -> DomainException.from(Error.of("'search_mode' must be one of contains or full_text")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalog.domain;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeOrderedUUIDTest {
+    @Test
+    public void givenNothing_whenCallNext_shouldReturnVersion7WithIETFVariant() {
+        final UUID uuid = TimeOrderedUUID.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    public void givenNothing_whenCallNext_shouldEmbedCurrentUnixMillis() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = TimeOrderedUUID.next();
+        final long after = System.currentTimeMillis();
+
+        final long timestamp = TimeOrderedUUID.timestampOf(uuid);
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= after + 1);
+    }
+
+    @Test
+    public void givenSequentialCalls_whenCallNext_shouldReturnStrictlyIncreasingStrings() {
+        String previous = TimeOrderedUUID.next().toString();
+        for (int index = 0; index < 10_000; index++) {
+            final String current = TimeOrderedUUID.next().toString();
+            assertTrue(current.compareTo(previous) > 0, current + " should sort after " + previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    public void givenConcurrentCalls_whenCallNext_shouldNeverReturnDuplicates() throws Exception {
+        final int threads = 8;
+        final int perThread = 10_000;
+        final Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            IntStream.range(0, threads).forEach(thread -> futures.add(executor.submit(() -> {
+                for (int index = 0; index < perThread; index++) {
+                    generated.add(TimeOrderedUUID.next());
+                }
+            })));
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, generated.size());
+    }
+
+    @Test
+    public void givenARandomUUID_whenCallTimestampOf_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedUUID.timestampOf(UUID.randomUUID()));
+    }
+
+    @Test
+    public void givenNothing_whenCallUnique_shouldReturnTimeOrderedIdentifiers() {
+        assertEquals(7, CategoryID.unique().getValue().version());
+        assertEquals(7, GenreID.unique().getValue().version());
+    }
+
+    @Test
+    public void givenAnExistingRandomUUID_whenCallFrom_shouldStillParse() {
+        final String expectedId = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+        final CategoryID categoryID = CategoryID.from(expectedId);
+
+        assertEquals(4, categoryID.getValue().version());
+        assertEquals(expectedId, categoryID.toString());
+        assertEquals(expectedId, GenreID.from(expectedId).toString());
+    }
+}
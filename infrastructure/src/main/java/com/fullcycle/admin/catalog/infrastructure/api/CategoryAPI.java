@@ -1,13 +1,20 @@
 package com.fullcycle.admin.catalog.infrastructure.api;
 
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesOutput;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.junit.jupiter.api.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,14 +22,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.util.List;
+
+import static com.fullcycle.admin.catalog.infrastructure.category.parser.CategoryImportParser.TEXT_CSV_VALUE;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag("Categories")
 @RequestMapping(value = "categories")
@@ -37,17 +51,54 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> create(@RequestBody final CreateCategoryRequest input);
 
-    @ResponseStatus(OK)
+    @PostMapping(value = "batch", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create categories in bulk")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All categories created"),
+        @ApiResponse(responseCode = "207", description = "Some categories were created and some failed"),
+        @ApiResponse(
+            responseCode = "422",
+            description = "No category could be created or the batch is larger than category.batch.max-size"
+        ),
+        @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    ResponseEntity<?> createAll(
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = CreateCategoryRequest.class))
+        )) final InputStream body
+    );
+
+    @PostMapping(
+        value = "import",
+        consumes = { APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE },
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories from a newline-delimited JSON or CSV upload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All categories imported"),
+        @ApiResponse(responseCode = "207", description = "Some lines were imported and some failed"),
+        @ApiResponse(responseCode = "422", description = "No line could be imported or the CSV header is invalid"),
+        @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    ResponseEntity<?> importAll(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) final MediaType contentType,
+        final InputStream body
+    );
+
     @GetMapping(produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Returns a list of categories"),
+        @ApiResponse(responseCode = "200", description = "Returns a list of categories and a weak ETag of the page"),
+        @ApiResponse(responseCode = "304", description = "If-None-Match matches the current page"),
         @ApiResponse(responseCode = "400", description = "An invalid parameter was received"),
+        @ApiResponse(responseCode = "422", description = "The cursor, count strategy or search mode is invalid"),
         @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
-    Pagination<?> index(
+    ResponseEntity<Pagination<CategoryListResponse>> index(
         @RequestParam(value = "search", required = false, defaultValue = "")
         final String search,
+        @RequestParam(value = "search_mode", required = false, defaultValue = "contains")
+        final String searchMode,
         @RequestParam(value = "page", required = false, defaultValue = "0")
         final int page,
         @RequestParam(value = "size", required = false, defaultValue = "10")
@@ -55,19 +106,40 @@ public interface CategoryAPI {
         @RequestParam(value = "sort", required = false, defaultValue = "name")
         final String sort,
         @RequestParam(value = "order", required = false, defaultValue = "asc")
-        final String order
+        final String order,
+        @RequestParam(value = "cursor", required = false)
+        final String cursor,
+        @RequestParam(value = "count", required = false)
+        final String count,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+        final String ifNoneMatch
     );
 
-    @ResponseStatus(OK)
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every category as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streams one category per line"),
+        @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(value = "{categoryId}", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a category by id")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Returns the category"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Returns the category and its version as ETag",
+            content = @Content(schema = @Schema(implementation = CategoryResponse.class))
+        ),
+        @ApiResponse(responseCode = "304", description = "If-None-Match matches the current version"),
         @ApiResponse(responseCode = "400", description = "An invalid parameter was received"),
-        @ApiResponse(responseCode = "400", description = "Category was not found"),
+        @ApiResponse(responseCode = "404", description = "Category was not found"),
         @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
-    CategoryResponse show(@PathVariable final String categoryId);
+    ResponseEntity<byte[]> show(
+        @PathVariable final String categoryId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+    );
 
     @ResponseStatus(OK)
     @PutMapping(value = "{categoryId}", produces = APPLICATION_JSON_VALUE, consumes = APPLICATION_JSON_VALUE)
@@ -76,10 +148,14 @@ public interface CategoryAPI {
         @ApiResponse(responseCode = "204", description = "Category updated successfully"),
         @ApiResponse(responseCode = "400", description = "An invalid parameter was received"),
         @ApiResponse(responseCode = "404", description = "Category was not found"),
+        @ApiResponse(responseCode = "409", description = "Category was changed concurrently"),
+        @ApiResponse(responseCode = "412", description = "If-Match does not match the current version"),
+        @ApiResponse(responseCode = "428", description = "If-Match is missing, send * to overwrite any version"),
         @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     ResponseEntity<?> update(
         @PathVariable final String categoryId,
+        @RequestHeader(HttpHeaders.IF_MATCH) final String ifMatch,
         @RequestBody final UpdateCategoryRequest input
     );
 
@@ -92,4 +168,22 @@ public interface CategoryAPI {
         @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     void delete(@PathVariable final String categoryId);
+
+    @ResponseStatus(OK)
+    @DeleteMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Deletes categories by ids or by search filter")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Returns how many categories were deleted"),
+        @ApiResponse(responseCode = "400", description = "An invalid parameter was received"),
+        @ApiResponse(responseCode = "422", description = "Neither ids nor a search filter were informed"),
+        @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    DeleteCategoriesOutput deleteAll(
+        @RequestParam(value = "ids", required = false)
+        final List<String> ids,
+        @RequestParam(value = "search", required = false, defaultValue = "")
+        final String search,
+        @RequestParam(value = "search_mode", required = false, defaultValue = "contains")
+        final String searchMode
+    );
 }
@@ -1,46 +1,105 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesCommand;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
 import com.fullcycle.admin.catalog.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryJsonCache;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalog.infrastructure.category.parser.CategoryBatchParser;
+import com.fullcycle.admin.catalog.infrastructure.category.parser.CategoryImportParser;
 import com.fullcycle.admin.catalog.infrastructure.category.presenter.CategoryApiPresenter;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.MULTI_STATUS;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
 @RestController
 public class CategoryController implements CategoryAPI {
+    private static final ObjectWriter EXPORT_WRITER = Json.getMapper()
+        .writerFor(CategoryListResponse.class)
+        .without(FLUSH_AFTER_WRITE_VALUE);
+
+    private static final ObjectWriter RESPONSE_WRITER = Json.getMapper().writerFor(CategoryResponse.class);
+
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final CategoryJsonCache jsonCache;
+    private final int batchMaxSize;
 
     public CategoryController(
         final CreateCategoryUseCase createCategoryUseCase,
+        final CreateCategoriesUseCase createCategoriesUseCase,
+        final ImportCategoriesUseCase importCategoriesUseCase,
         final GetCategoryByIdUseCase getCategoryByIdUseCase,
         final UpdateCategoryUseCase updateCategoryUseCase,
         final DeleteCategoryUseCase deleteCategoryUseCase,
-        final ListCategoriesUseCase listCategoriesUseCase
+        final DeleteCategoriesUseCase deleteCategoriesUseCase,
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final ExportCategoriesUseCase exportCategoriesUseCase,
+        final ObjectProvider<CategoryJsonCache> jsonCache,
+        @Value("${category.batch.max-size:1000}") final int batchMaxSize
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.jsonCache = jsonCache.getIfAvailable();
+        this.batchMaxSize = batchMaxSize;
     }
 
     @Override
@@ -58,34 +117,123 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<?> index(
+    public ResponseEntity<?> createAll(final InputStream body) {
+        final List<CreateCategoryCommand> commands = CategoryBatchParser.of(body, batchMaxSize).stream()
+            .map(request -> CreateCategoryCommand.from(
+                request.name(),
+                request.description(),
+                request.isActive() == null || request.isActive()
+            ))
+            .toList();
+
+        final CreateCategoriesOutput output = createCategoriesUseCase.execute(commands);
+
+        if (!output.hasFailures()) {
+            return ResponseEntity.status(CREATED).body(output);
+        }
+
+        return ResponseEntity.status(output.created().isEmpty() ? UNPROCESSABLE_ENTITY : MULTI_STATUS).body(output);
+    }
+
+    @Override
+    public ResponseEntity<?> importAll(final MediaType contentType, final InputStream body) {
+        final ImportCategoriesOutput output = importCategoriesUseCase.execute(CategoryImportParser.of(contentType, body));
+
+        if (!output.hasFailures()) {
+            return ResponseEntity.status(CREATED).body(output);
+        }
+
+        return ResponseEntity.status(output.imported() == 0 ? UNPROCESSABLE_ENTITY : MULTI_STATUS).body(output);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> index(
         final String search,
+        final String searchMode,
         final int page,
         final int perPage,
         final String sort,
-        final String order
+        final String order,
+        final String cursor,
+        final String count,
+        final String ifNoneMatch
     ) {
-        return listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, order))
-            .map(CategoryApiPresenter::present);
+        final CategorySearchQuery query = new CategorySearchQuery(
+            page,
+            perPage,
+            search,
+            sort,
+            order,
+            cursor,
+            count == null ? null : CountStrategy.of(count),
+            SearchMode.of(searchMode)
+        );
+
+        final Pagination<CategoryListOutput> result = listCategoriesUseCase.execute(query);
+        final String eTag = ETagUtils.weakOf(fingerprintOf(result));
+
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(result.map(CategoryApiPresenter::present));
     }
 
     @Override
-    public CategoryResponse show(final String categoryId) {
-        return CategoryApiPresenter.present(getCategoryByIdUseCase.execute(categoryId));
+    public ResponseEntity<StreamingResponseBody> export() {
+        final StreamingResponseBody body = outputStream -> {
+            try (final JsonGenerator generator = EXPORT_WRITER.getFactory().createGenerator(outputStream)) {
+                generator.disable(AUTO_CLOSE_TARGET);
+                // each line is its own root value, so drop the space Jackson puts between root values
+                generator.setRootValueSeparator(null);
+                exportCategoriesUseCase.execute(output -> {
+                    try {
+                        EXPORT_WRITER.writeValue(generator, CategoryApiPresenter.present(output));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @Override
-    public ResponseEntity<?> update(final String categoryId, final UpdateCategoryRequest input) {
+    public ResponseEntity<byte[]> show(final String categoryId, final String ifNoneMatch) {
+        final CategoryOutput output = getCategoryByIdUseCase.execute(categoryId);
+        final String eTag = ETagUtils.of(output.version());
+
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        final byte[] body = jsonCache == null ? render(output) : jsonCache.get(output, CategoryController::render);
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    @Override
+    public ResponseEntity<?> update(
+        final String categoryId,
+        final String ifMatch,
+        final UpdateCategoryRequest input
+    ) {
         final UpdateCategoryCommand command = UpdateCategoryCommand.from(
             CategoryID.from(categoryId),
             input.name(),
             input.description(),
-            input.isActive() == null || input.isActive()
+            input.isActive() == null || input.isActive(),
+            ETagUtils.versionOf(ifMatch)
         );
 
         return updateCategoryUseCase.execute(command).fold(
             ResponseEntity.unprocessableEntity()::body,
-            ResponseEntity::ok
+            output -> ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output)
         );
     }
 
@@ -93,4 +241,33 @@ public class CategoryController implements CategoryAPI {
     public void delete(final String categoryId) {
         deleteCategoryUseCase.execute(categoryId);
     }
+
+    @Override
+    public DeleteCategoriesOutput deleteAll(final List<String> ids, final String search, final String searchMode) {
+        return deleteCategoriesUseCase.execute(DeleteCategoriesCommand.from(ids, search, SearchMode.of(searchMode)));
+    }
+
+    private static byte[] render(final CategoryOutput output) {
+        try {
+            return RESPONSE_WRITER.writeValueAsBytes(CategoryApiPresenter.present(output));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String fingerprintOf(final Pagination<CategoryListOutput> page) {
+        final StringBuilder fingerprint = new StringBuilder()
+            .append(page.currentPage()).append(':')
+            .append(page.perPage()).append(':')
+            .append(page.total()).append(':')
+            .append(page.hasNext()).append(':')
+            .append(page.nextCursor()).append(':')
+            .append(page.prevCursor());
+
+        for (final CategoryListOutput item : page.items()) {
+            fingerprint.append('|').append(item.id()).append('@').append(item.updatedAt());
+        }
+
+        return fingerprint.toString();
+    }
 }
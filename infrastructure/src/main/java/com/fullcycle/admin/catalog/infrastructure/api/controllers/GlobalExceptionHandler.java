@@ -1,15 +1,25 @@
 package com.fullcycle.admin.catalog.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.PRECONDITION_REQUIRED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @RestControllerAdvice
@@ -20,6 +30,31 @@ public class GlobalExceptionHandler {
         return ApiError.from(ex);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(PRECONDITION_FAILED)
+    public ApiError onConflictException(final ConflictException ex) {
+        return ApiError.from(ex);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(CONFLICT)
+    public ApiError onOptimisticLockingFailure(final OptimisticLockingFailureException ex) {
+        return new ApiError(ex.getMessage(), List.of(Error.of("'version' was changed by another request")));
+    }
+
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<ApiError> onMissingRequestHeader(final MissingRequestHeaderException ex) {
+        // a write without If-Match would silently overwrite concurrent changes, so ask for the precondition
+        final HttpStatus status = HttpHeaders.IF_MATCH.equalsIgnoreCase(ex.getHeaderName())
+            ? PRECONDITION_REQUIRED
+            : BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(new ApiError(
+            ex.getMessage(),
+            List.of(Error.of("'%s' header is required".formatted(ex.getHeaderName())))
+        ));
+    }
+
     @ExceptionHandler(DomainException.class)
     @ResponseStatus(UNPROCESSABLE_ENTITY)
     public ApiError onDomainException(final DomainException ex) {
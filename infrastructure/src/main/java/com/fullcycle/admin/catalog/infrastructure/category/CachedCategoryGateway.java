@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedCategoryGateway implements CategoryGateway {
+    private final CategoryGateway categoryGateway;
+    private final Cache<CategoryID, CategorySummary> cache;
+    private final CatalogVersion catalogVersion;
+
+    public CachedCategoryGateway(
+        final CategoryGateway categoryGateway,
+        final Cache<CategoryID, CategorySummary> cache,
+        final CatalogVersion catalogVersion
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+        this.cache = Objects.requireNonNull(cache, "'cache' is required");
+        this.catalogVersion = Objects.requireNonNull(catalogVersion, "'catalogVersion' is required");
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return categoryGateway.create(category);
+        } finally {
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return categoryGateway.createAll(categories);
+        } finally {
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public long importAll(final Iterator<Category> categories) {
+        try {
+            return categoryGateway.importAll(categories);
+        } finally {
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public long deleteById(final CategoryID id) {
+        try {
+            return categoryGateway.deleteById(id);
+        } finally {
+            cache.invalidate(id);
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public long deleteAllById(final List<CategoryID> ids) {
+        try {
+            return categoryGateway.deleteAllById(ids);
+        } finally {
+            cache.invalidateAll(ids);
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public long deleteAll(final CategorySearchQuery query) {
+        try {
+            return categoryGateway.deleteAll(query);
+        } finally {
+            cache.invalidateAll();
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final CategorySummary summary = cache.get(id, key -> categoryGateway.findById(key)
+            .map(CategorySummary::from)
+            .orElse(null));
+
+        return Optional.ofNullable(summary).map(CategorySummary::toCategory);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return categoryGateway.update(category);
+        } finally {
+            cache.invalidate(category.getId());
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category) {
+        try {
+            return categoryGateway.updateIfExists(category);
+        } finally {
+            cache.invalidate(category.getId());
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category, final long expectedVersion) {
+        try {
+            return categoryGateway.updateIfExists(category, expectedVersion);
+        } finally {
+            cache.invalidate(category.getId());
+            catalogVersion.increment();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return categoryGateway.findAll(query);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery query) {
+        return categoryGateway.findAllSummaries(query);
+    }
+
+    @Override
+    public long exportAll(final Consumer<CategorySummary> consumer) {
+        return categoryGateway.exportAll(consumer);
+    }
+
+    public void invalidate(final Collection<CategoryID> ids) {
+        cache.invalidateAll(ids);
+        catalogVersion.increment();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        catalogVersion.increment();
+    }
+}
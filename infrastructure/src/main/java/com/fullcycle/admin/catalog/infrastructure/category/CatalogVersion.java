@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class CatalogVersion {
+    private final AtomicLong value = new AtomicLong();
+    private final Ticker ticker;
+    private volatile long changedAt;
+
+    public CatalogVersion() {
+        this(Ticker.systemTicker());
+    }
+
+    public CatalogVersion(final Ticker ticker) {
+        this.ticker = Objects.requireNonNull(ticker, "'ticker' is required");
+    }
+
+    public long current() {
+        return value.get();
+    }
+
+    public long increment() {
+        changedAt = ticker.read();
+        return value.incrementAndGet();
+    }
+
+    public boolean changedWithin(final Duration window) {
+        return value.get() > 0 && ticker.read() - changedAt < window.toNanos();
+    }
+}
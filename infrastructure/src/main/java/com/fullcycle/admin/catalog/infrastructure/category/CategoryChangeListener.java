@@ -0,0 +1,192 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CategoryChangeListener implements SmartLifecycle {
+    public static final String CHANNEL = "category_changes";
+    public static final String ALL = "*";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryChangeListener.class);
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+
+    private final Connector connector;
+    private final CachedCategoryGateway cachedCategoryGateway;
+    private final CategoryEntityCache entityCache;
+    private final CategoryReadModel readModel;
+    private final Duration reconnectDelay;
+    private final Duration maxReconnectDelay;
+    private final boolean autoStartup;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public CategoryChangeListener(
+        final Connector connector,
+        final CachedCategoryGateway cachedCategoryGateway,
+        final CategoryEntityCache entityCache,
+        final CategoryReadModel readModel,
+        final Duration reconnectDelay,
+        final Duration maxReconnectDelay,
+        final boolean autoStartup
+    ) {
+        this.connector = Objects.requireNonNull(connector, "'connector' is required");
+        this.cachedCategoryGateway = Objects.requireNonNull(cachedCategoryGateway, "'cachedCategoryGateway' is required");
+        this.entityCache = Objects.requireNonNull(entityCache, "'entityCache' is required");
+        this.readModel = readModel;
+        this.reconnectDelay = Objects.requireNonNull(reconnectDelay, "'reconnectDelay' is required");
+        this.maxReconnectDelay = Objects.requireNonNull(maxReconnectDelay, "'maxReconnectDelay' is required");
+        this.autoStartup = autoStartup;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::listen, "category-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        final Thread listener = thread;
+        if (listener == null) {
+            return;
+        }
+
+        listener.interrupt();
+        try {
+            listener.join(POLL_TIMEOUT_MILLIS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void onChanges(final List<String> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        final List<CategoryID> ids = new ArrayList<>(payloads.size());
+        for (final String payload : payloads) {
+            if (ALL.equals(payload)) {
+                invalidateAll();
+                return;
+            }
+
+            try {
+                ids.add(CategoryID.from(payload));
+            } catch (IllegalArgumentException e) {
+                invalidateAll();
+                return;
+            }
+        }
+
+        if (readModel != null) {
+            readModel.reload(ids);
+        }
+        entityCache.evict(ids);
+        cachedCategoryGateway.invalidate(ids);
+    }
+
+    private void invalidateAll() {
+        if (readModel != null) {
+            readModel.reload();
+        }
+        entityCache.evictAll();
+        cachedCategoryGateway.invalidateAll();
+    }
+
+    private void listen() {
+        Duration delay = reconnectDelay;
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (final Connection connection = connector.connect()) {
+                connection.setAutoCommit(true);
+                try (final Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+
+                // anything written while this node was not listening is unknown, so start over
+                if (connectedBefore) {
+                    invalidateAll();
+                }
+                connectedBefore = true;
+                delay = reconnectDelay;
+
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    onChanges(payloadsOf(pgConnection.getNotifications(POLL_TIMEOUT_MILLIS)));
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+
+                LOGGER.warn("Lost the '{}' listener connection, reconnecting in {}", CHANNEL, delay, e);
+                if (!sleep(delay)) {
+                    return;
+                }
+                final Duration doubled = delay.multipliedBy(2);
+                delay = doubled.compareTo(maxReconnectDelay) > 0 ? maxReconnectDelay : doubled;
+            }
+        }
+    }
+
+    private static List<String> payloadsOf(final PGNotification[] notifications) {
+        if (notifications == null || notifications.length == 0) {
+            return List.of();
+        }
+
+        final List<String> payloads = new ArrayList<>(notifications.length);
+        for (final PGNotification notification : notifications) {
+            payloads.add(notification.getParameter());
+        }
+        return payloads;
+    }
+
+    private static boolean sleep(final Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Connector {
+        Connection connect() throws SQLException;
+    }
+}
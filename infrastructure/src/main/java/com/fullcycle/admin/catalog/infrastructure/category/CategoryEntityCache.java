@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.Objects;
+
+public class CategoryEntityCache {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CategoryEntityCache(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory, "'entityManagerFactory' is required");
+    }
+
+    public void evict(final Collection<CategoryID> ids) {
+        final Cache cache = entityManagerFactory.getCache();
+        for (final CategoryID id : ids) {
+            cache.evict(CategoryJpaEntity.class, id.getValue());
+        }
+        evictQueries();
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(CategoryJpaEntity.class);
+        evictQueries();
+    }
+
+    public void evictQueries() {
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+final class CategoryExport {
+    static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL = "SELECT " + CategoryRowMapper.COLUMNS + " FROM category ORDER BY id";
+
+    private CategoryExport() {}
+
+    static long exportAll(final JdbcTemplate jdbcTemplate, final Consumer<CategorySummary> consumer) {
+        final AtomicLong exported = new AtomicLong();
+
+        jdbcTemplate.query(
+            connection -> {
+                final PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            },
+            (RowCallbackHandler) resultSet -> {
+                consumer.accept(CategoryRowMapper.summaryOf(resultSet));
+                exported.incrementAndGet();
+            }
+        );
+
+        return exported.get();
+    }
+}
@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+public class CategoryHotKeys {
+    private final int maxTrackedKeys;
+    private final Map<String, LongAdder> categories = new ConcurrentHashMap<>();
+    private final Map<CategorySearchQuery, LongAdder> queries = new ConcurrentHashMap<>();
+
+    public CategoryHotKeys(final int maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void recordCategory(final String id) {
+        record(categories, id);
+    }
+
+    public void recordQuery(final CategorySearchQuery query) {
+        if (query.page() == 0 && !query.hasCursor()) {
+            record(queries, query);
+        }
+    }
+
+    public Snapshot snapshot(final int maxCategories, final int maxQueries) {
+        return new Snapshot(
+            hottest(categories, maxCategories),
+            hottest(queries, maxQueries).stream().map(Query::from).toList()
+        );
+    }
+
+    public void clear() {
+        categories.clear();
+        queries.clear();
+    }
+
+    private <K> void record(final Map<K, LongAdder> counters, final K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxTrackedKeys) {
+                return;
+            }
+            counter = counters.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static <K> List<K> hottest(final Map<K, LongAdder> counters, final int limit) {
+        return counters.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    public record Snapshot(
+        @JsonProperty("categories") List<String> categories,
+        @JsonProperty("queries") List<Query> queries
+    ) {
+        public static final Snapshot EMPTY = new Snapshot(List.of(), List.of());
+
+        public Snapshot {
+            categories = List.copyOf(Objects.requireNonNullElse(categories, List.of()));
+            queries = List.copyOf(Objects.requireNonNullElse(queries, List.of()));
+        }
+
+        public static Snapshot load(final Path file) throws IOException {
+            if (!Files.exists(file)) {
+                return EMPTY;
+            }
+
+            return Json.readValue(Files.readString(file), Snapshot.class);
+        }
+
+        public void save(final Path file) throws IOException {
+            final Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+
+            final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(temporary, Json.writeValueAsString(this));
+                Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    public record Query(
+        @JsonProperty("page") int page,
+        @JsonProperty("per_page") int perPage,
+        @JsonProperty("terms") String terms,
+        @JsonProperty("sort") String sort,
+        @JsonProperty("direction") String direction,
+        @JsonProperty("count") CountStrategy count,
+        @JsonProperty("mode") SearchMode mode
+    ) {
+        public static Query from(final CategorySearchQuery query) {
+            return new Query(
+                query.page(),
+                query.perPage(),
+                query.terms(),
+                query.sort(),
+                query.direction(),
+                query.count(),
+                query.mode()
+            );
+        }
+
+        public CategorySearchQuery toSearchQuery() {
+            return new CategorySearchQuery(page, perPage, terms, sort, direction, null, count, mode);
+        }
+    }
+}
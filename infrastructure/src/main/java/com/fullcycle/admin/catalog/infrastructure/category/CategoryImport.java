@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+final class CategoryImport {
+    static final int INSERT_CHUNK_SIZE = 1000;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String COPY_SQL = """
+        COPY category (id, name, description, is_active, created_at, updated_at, deleted_at)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    private CategoryImport() {}
+
+    static long copyAll(final JdbcTemplate jdbcTemplate, final Iterator<Category> categories) {
+        return Optional.ofNullable(jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+                while (categories.hasNext()) {
+                    appendRow(buffer, categories.next());
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        write(copyIn, buffer);
+                    }
+                }
+                write(copyIn, buffer);
+
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        })).orElse(0L);
+    }
+
+    static long insertAll(final Iterator<Category> categories, final Consumer<List<Category>> insert) {
+        final List<Category> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        long inserted = 0;
+
+        while (categories.hasNext()) {
+            chunk.add(categories.next());
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                insert.accept(chunk);
+                inserted += chunk.size();
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            insert.accept(chunk);
+            inserted += chunk.size();
+        }
+
+        return inserted;
+    }
+
+    private static void write(final CopyIn copyIn, final StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendRow(final StringBuilder buffer, final Category category) {
+        buffer.append(category.getId()).append(',');
+        appendText(buffer, category.getName());
+        buffer.append(',');
+        appendText(buffer, category.getDescription());
+        buffer.append(',').append(category.isActive()).append(',');
+        appendTimestamp(buffer, category.getCreatedAt());
+        buffer.append(',');
+        appendTimestamp(buffer, category.getUpdatedAt());
+        buffer.append(',');
+        appendTimestamp(buffer, category.getDeletedAt());
+        buffer.append('\n');
+    }
+
+    private static void appendText(final StringBuilder buffer, final String value) {
+        if (value == null) {
+            return;
+        }
+
+        buffer.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+            if (character == '"') {
+                buffer.append('"');
+            }
+            buffer.append(character);
+        }
+        buffer.append('"');
+    }
+
+    private static void appendTimestamp(final StringBuilder buffer, final Instant instant) {
+        if (instant != null) {
+            buffer.append(instant);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.Cursor;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.fullcycle.admin.catalog.domain.pagination.Pagination.UNKNOWN_TOTAL;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.cursorOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.pageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.seekPageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryTable.seekColumnOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryTable.seekConditionOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper.COLUMNS;
+import static com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper.timestampOf;
+import static com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils.like;
+
+@Service
+@ConditionalOnProperty(name = "category.gateway", havingValue = "jdbc")
+public class CategoryJdbcGateway implements CategoryGateway {
+    private static final String INSERT_SQL = """
+        INSERT INTO category (id, name, description, is_active, created_at, updated_at, deleted_at)
+        VALUES (:id, :name, :description, :isActive, :createdAt, :updatedAt, :deletedAt)
+        """;
+
+    private static final String SELECT_BY_ID_SQL = "SELECT " + COLUMNS + " FROM category WHERE id = :id";
+
+    private static final String COUNT_BY_ID_SQL = "SELECT count(*) FROM category WHERE id = :id";
+
+    private static final String REPLACE_SQL = """
+        UPDATE category
+        SET name = :name, description = :description, is_active = :isActive, created_at = :createdAt,
+            updated_at = :updatedAt, deleted_at = :deletedAt, version = version + 1
+        WHERE id = :id AND version = :version
+        """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE category
+        SET name = :name, description = :description, is_active = :isActive, updated_at = :updatedAt,
+            deleted_at = CASE WHEN :isActive THEN NULL ELSE COALESCE(deleted_at, :updatedAt) END,
+            version = version + 1
+        WHERE id = :id
+        """;
+
+    private static final String VERSIONED_UPDATE_SQL = UPDATE_SQL + "AND version = :version\n";
+
+    private static final String RETURNING = "RETURNING " + COLUMNS;
+
+    private static final String DELETE_BY_ID_SQL = "DELETE FROM category WHERE id = :id";
+
+    private static final String DELETE_BY_IDS_SQL = "DELETE FROM category WHERE id IN (:ids)";
+
+    private static final String FULL_TEXT_FILTER = "search_vector @@ websearch_to_tsquery('simple', :terms)";
+
+    private static final String TERM_FILTER =
+        "(UPPER(name) LIKE :%1$s ESCAPE '\\' OR UPPER(description) LIKE :%1$s ESCAPE '\\')";
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryTable table;
+
+    public CategoryJdbcGateway(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.table = new CategoryTable(jdbcTemplate.getJdbcTemplate());
+    }
+
+    @Override
+    public Category create(final Category category) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, parametersOf(category)));
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        final MapSqlParameterSource[] batch = categories.stream()
+            .map(CategoryJdbcGateway::parametersOf)
+            .toArray(MapSqlParameterSource[]::new);
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+
+        return List.copyOf(categories);
+    }
+
+    @Override
+    public long importAll(final Iterator<Category> categories) {
+        return Optional.ofNullable(transactionTemplate.execute(status -> table.isPostgreSQL()
+            ? CategoryImport.copyAll(jdbcTemplate.getJdbcTemplate(), categories)
+            : CategoryImport.insertAll(categories, this::createAll)
+        )).orElse(0L);
+    }
+
+    @Override
+    public long deleteById(final CategoryID id) {
+        return write(DELETE_BY_ID_SQL, new MapSqlParameterSource("id", id.getValue()));
+    }
+
+    @Override
+    public long deleteAllById(final List<CategoryID> ids) {
+        final List<UUID> values = ids.stream().map(CategoryID::getValue).distinct().toList();
+
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            long deleted = 0;
+            for (int from = 0; from < values.size(); from += DELETE_CHUNK_SIZE) {
+                final List<UUID> chunk = values.subList(from, Math.min(values.size(), from + DELETE_CHUNK_SIZE));
+                deleted += jdbcTemplate.update(DELETE_BY_IDS_SQL, new MapSqlParameterSource("ids", chunk));
+            }
+
+            return deleted;
+        })).orElse(0L);
+    }
+
+    @Override
+    public long deleteAll(final CategorySearchQuery query) {
+        if (!query.hasTerms()) {
+            throw DomainException.from(Error.of("'search' is required to delete categories by filter"));
+        }
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        return write("DELETE FROM category WHERE " + filterOf(query, parameters), parameters);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("id", id.getValue());
+        return jdbcTemplate.query(SELECT_BY_ID_SQL, parameters, CategoryRowMapper.CATEGORY).stream().findFirst();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final MapSqlParameterSource parameters = parametersOf(category).addValue("version", category.getVersion());
+
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update(REPLACE_SQL, parameters) > 0) {
+                return findById(category.getId()).orElseThrow();
+            }
+
+            if (!exists(category.getId())) {
+                throw NotFoundException.from(Category.class, category.getId().toString());
+            }
+
+            throw new OptimisticLockingFailureException(
+                "Category with id %s is not at version %d".formatted(category.getId(), category.getVersion())
+            );
+        });
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category) {
+        return transactionTemplate.execute(status -> updateReturning(UPDATE_SQL, parametersOf(category), category.getId()));
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category, final long expectedVersion) {
+        final MapSqlParameterSource parameters = parametersOf(category).addValue("version", expectedVersion);
+
+        return transactionTemplate.execute(status -> {
+            final Optional<Category> updated = updateReturning(VERSIONED_UPDATE_SQL, parameters, category.getId());
+
+            if (updated.isEmpty() && exists(category.getId())) {
+                throw ConflictException.from(Category.class, category.getId().toString(), expectedVersion);
+            }
+
+            return updated;
+        });
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return findAllSummaries(query).map(CategorySummary::toCategory);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery query) {
+        if (query.isFullTextSearch() && query.hasCursor()) {
+            throw DomainException.from(Error.of("'cursor' is not supported by full-text search"));
+        }
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource();
+        final List<String> filters = new ArrayList<>();
+        if (query.hasTerms()) {
+            filters.add(filterOf(query, parameters));
+        }
+
+        return query.hasCursor()
+            ? findAllByCursor(query, filters, parameters)
+            : findAllByPage(query, filters, parameters);
+    }
+
+    @Override
+    public long exportAll(final Consumer<CategorySummary> consumer) {
+        return CategoryExport.exportAll(jdbcTemplate.getJdbcTemplate(), consumer);
+    }
+
+    private Pagination<CategorySummary> findAllByPage(
+        final CategorySearchQuery query,
+        final List<String> filters,
+        final MapSqlParameterSource parameters
+    ) {
+        final int offset = query.page() * query.perPage();
+        final Optional<Long> estimatedTotal = query.count() == CountStrategy.ESTIMATED && filters.isEmpty()
+            ? table.estimateTotal()
+            : Optional.empty();
+        final boolean countExactly = query.count() == CountStrategy.EXACT
+            || (query.count() != CountStrategy.NONE && estimatedTotal.isEmpty());
+        final int limit = countExactly ? query.perPage() : query.perPage() + 1;
+
+        final String sql = selectOf(query, filters, query.direction(), countExactly)
+            + " LIMIT :limit OFFSET :offset";
+        parameters.addValue("limit", limit).addValue("offset", offset);
+
+        final List<CategorySummary> rows = new ArrayList<>();
+        final long[] total = { 0 };
+        jdbcTemplate.query(sql, parameters, (RowCallbackHandler) resultSet -> {
+            rows.add(CategoryRowMapper.summaryOf(resultSet));
+            if (countExactly) {
+                total[0] = resultSet.getLong("total");
+            }
+        });
+
+        final List<CategorySummary> items = rows.subList(0, Math.min(rows.size(), query.perPage()));
+        if (!countExactly) {
+            return pageOf(query, items, estimatedTotal.orElse(UNKNOWN_TOTAL), rows.size() > query.perPage());
+        }
+
+        final long exactTotal = rows.isEmpty() && offset > 0 ? count(filters, parameters) : total[0];
+        return pageOf(query, items, exactTotal, offset + items.size() < exactTotal);
+    }
+
+    private Pagination<CategorySummary> findAllByCursor(
+        final CategorySearchQuery query,
+        final List<String> filters,
+        final MapSqlParameterSource parameters
+    ) {
+        final Cursor cursor = cursorOf(query);
+        final boolean ascending = "asc".equalsIgnoreCase(query.direction());
+        final boolean seekAscending = cursor.backward() != ascending;
+
+        final List<String> seekFilters = new ArrayList<>(filters);
+        seekFilters.add(seekFrom(cursor, seekAscending, parameters));
+
+        final String sql = selectOf(query, seekFilters, seekAscending ? "asc" : "desc", false) + " LIMIT :limit";
+        parameters.addValue("limit", query.perPage() + 1);
+
+        final List<CategorySummary> rows = jdbcTemplate.query(sql, parameters, CategoryRowMapper.SUMMARY);
+
+        final long total = switch (query.count()) {
+            case EXACT -> count(filters, parameters);
+            case ESTIMATED -> filters.isEmpty()
+                ? table.estimateTotal().orElseGet(() -> count(filters, parameters))
+                : count(filters, parameters);
+            case NONE -> UNKNOWN_TOTAL;
+        };
+
+        return seekPageOf(query, cursor, rows, total);
+    }
+
+    private String selectOf(
+        final CategorySearchQuery query,
+        final List<String> filters,
+        final String direction,
+        final boolean withTotal
+    ) {
+        final String column = table.orderColumnOf(query.sort());
+        final String order = "desc".equalsIgnoreCase(direction) ? "DESC" : "ASC";
+
+        final StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS);
+        if (withTotal) {
+            sql.append(", count(*) OVER() AS total");
+        }
+
+        sql.append(" FROM category").append(whereOf(filters)).append(" ORDER BY ");
+        if (query.isFullTextSearch() && table.isPostgreSQL()) {
+            sql.append("ts_rank(search_vector, websearch_to_tsquery('simple', :terms)) DESC, ");
+        }
+
+        return sql.append(column).append(' ').append(order).append(", id ").append(order).toString();
+    }
+
+    private String filterOf(final CategorySearchQuery query, final MapSqlParameterSource parameters) {
+        final String terms = query.terms().trim();
+
+        if (query.isFullTextSearch() && table.isPostgreSQL()) {
+            parameters.addValue("terms", terms);
+            return FULL_TEXT_FILTER;
+        }
+
+        if (!query.isFullTextSearch()) {
+            return termFilterOf(terms, "term", parameters);
+        }
+
+        final String[] words = terms.split("\\s+");
+        final List<String> filters = new ArrayList<>(words.length);
+        for (int index = 0; index < words.length; index++) {
+            filters.add(termFilterOf(words[index], "term" + index, parameters));
+        }
+
+        return String.join(" AND ", filters);
+    }
+
+    private String termFilterOf(final String term, final String name, final MapSqlParameterSource parameters) {
+        parameters.addValue(name, like(term.toUpperCase(Locale.ROOT)));
+        return TERM_FILTER.formatted(name);
+    }
+
+    private String seekFrom(final Cursor cursor, final boolean ascending, final MapSqlParameterSource parameters) {
+        // rejects sorts without a (column, id) index before reading the cursor value
+        seekColumnOf(cursor.sort());
+
+        try {
+            parameters.addValue("seekId", UUID.fromString(cursor.id()));
+            if ("name".equals(cursor.sort())) {
+                parameters.addValue("seekValue", cursor.value());
+            } else {
+                parameters.addValue("seekValue", timestampOf(Instant.parse(cursor.value())), Types.TIMESTAMP_WITH_TIMEZONE);
+            }
+        } catch (final RuntimeException e) {
+            throw DomainException.from(Error.of("'cursor' is invalid"));
+        }
+
+        return seekConditionOf(table.orderColumnOf(cursor.sort()), ascending);
+    }
+
+    private long count(final List<String> filters, final MapSqlParameterSource parameters) {
+        final Long count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM category" + whereOf(filters),
+            parameters,
+            Long.class
+        );
+
+        return count == null ? 0 : count;
+    }
+
+    private Optional<Category> updateReturning(
+        final String sql,
+        final MapSqlParameterSource parameters,
+        final CategoryID id
+    ) {
+        if (table.isPostgreSQL()) {
+            return jdbcTemplate.query(sql + RETURNING, parameters, CategoryRowMapper.CATEGORY).stream().findFirst();
+        }
+
+        return jdbcTemplate.update(sql, parameters) == 0 ? Optional.empty() : findById(id);
+    }
+
+    private long write(final String sql, final MapSqlParameterSource parameters) {
+        return Optional.ofNullable(transactionTemplate.execute(status -> (long) jdbcTemplate.update(sql, parameters)))
+            .orElse(0L);
+    }
+
+    private boolean exists(final CategoryID id) {
+        final Long count = jdbcTemplate.queryForObject(
+            COUNT_BY_ID_SQL,
+            new MapSqlParameterSource("id", id.getValue()),
+            Long.class
+        );
+
+        return count != null && count > 0;
+    }
+
+    private static String whereOf(final List<String> filters) {
+        return filters.isEmpty() ? "" : " WHERE " + String.join(" AND ", filters);
+    }
+
+    private static MapSqlParameterSource parametersOf(final Category category) {
+        return new MapSqlParameterSource()
+            .addValue("id", category.getId().getValue())
+            .addValue("name", category.getName())
+            .addValue("description", category.getDescription())
+            .addValue("isActive", category.isActive())
+            .addValue("createdAt", timestampOf(category.getCreatedAt()), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("updatedAt", timestampOf(category.getUpdatedAt()), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("deletedAt", timestampOf(category.getDeletedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+}
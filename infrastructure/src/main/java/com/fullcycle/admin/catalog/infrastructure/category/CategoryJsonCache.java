@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class CategoryJsonCache {
+    private final Cache<Key, byte[]> cache;
+
+    public CategoryJsonCache(final Cache<Key, byte[]> cache) {
+        this.cache = Objects.requireNonNull(cache, "'cache' is required");
+    }
+
+    public byte[] get(final CategoryOutput output, final Function<CategoryOutput, byte[]> renderer) {
+        return cache.get(new Key(output.id(), output.updatedAt()), key -> renderer.apply(output));
+    }
+
+    public record Key(CategoryID id, Instant updatedAt) {}
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+public class CategoryPageCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryPageCache.class);
+
+    private final Cache<Key, Entry> cache;
+    private final CatalogVersion catalogVersion;
+    private final long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final Ticker ticker;
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CategoryPageCache(
+        final Cache<Key, Entry> cache,
+        final CatalogVersion catalogVersion,
+        final Duration refreshAfter,
+        final Executor refreshExecutor,
+        final Ticker ticker
+    ) {
+        this.cache = Objects.requireNonNull(cache, "'cache' is required");
+        this.catalogVersion = Objects.requireNonNull(catalogVersion, "'catalogVersion' is required");
+        this.refreshAfterNanos = Objects.requireNonNull(refreshAfter, "'refreshAfter' is required").toNanos();
+        this.refreshExecutor = Objects.requireNonNull(refreshExecutor, "'refreshExecutor' is required");
+        this.ticker = Objects.requireNonNull(ticker, "'ticker' is required");
+    }
+
+    public Pagination<CategoryListOutput> get(
+        final CategorySearchQuery query,
+        final Function<CategorySearchQuery, Pagination<CategoryListOutput>> loader
+    ) {
+        final Key key = new Key(catalogVersion.current(), query);
+        final Entry entry = cache.get(key, k -> new Entry(loader.apply(k.query()), ticker.read()));
+
+        if (ticker.read() - entry.loadedAt() >= refreshAfterNanos) {
+            revalidate(key, entry, loader);
+        }
+
+        return entry.page();
+    }
+
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void revalidate(
+        final Key key,
+        final Entry stale,
+        final Function<CategorySearchQuery, Pagination<CategoryListOutput>> loader
+    ) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    final Entry fresh = new Entry(loader.apply(key.query()), ticker.read());
+                    // skip the write when the page was evicted or reloaded meanwhile
+                    cache.asMap().replace(key, stale, fresh);
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Could not revalidate the category page for {}", key.query(), e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // the refresh pool is saturated, so keep serving the stale page and retry on a later hit
+            refreshing.remove(key);
+        }
+    }
+
+    public record Key(long version, CategorySearchQuery query) {}
+
+    public record Entry(Pagination<CategoryListOutput> page, long loadedAt) {}
+}
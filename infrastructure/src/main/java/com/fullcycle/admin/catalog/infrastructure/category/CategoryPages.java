@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.Cursor;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+final class CategoryPages {
+    private CategoryPages() {}
+
+    static Cursor cursorOf(final CategorySearchQuery query) {
+        final Cursor cursor = Cursor.decode(query.cursor());
+        if (!cursor.matches(query.sort(), query.direction())) {
+            throw DomainException.from(Error.of("'cursor' does not match the requested sort and order"));
+        }
+
+        return cursor;
+    }
+
+    static Pagination<CategorySummary> pageOf(
+        final CategorySearchQuery query,
+        final List<CategorySummary> items,
+        final long total,
+        final boolean hasNext
+    ) {
+        return new Pagination<>(
+            query.page(),
+            query.perPage(),
+            total,
+            items,
+            hasNext,
+            hasNext ? nextCursor(query, items) : null,
+            query.page() > 0 ? previousCursor(query, items) : null
+        );
+    }
+
+    static Pagination<CategorySummary> seekPageOf(
+        final CategorySearchQuery query,
+        final Cursor cursor,
+        final List<CategorySummary> rows,
+        final long total
+    ) {
+        final boolean hasMore = rows.size() > query.perPage();
+        final List<CategorySummary> items = new ArrayList<>(rows.subList(0, Math.min(rows.size(), query.perPage())));
+        if (cursor.backward()) {
+            Collections.reverse(items);
+        }
+
+        final boolean hasNext = !cursor.backward() ? hasMore : !items.isEmpty();
+        final boolean hasPrevious = cursor.backward() ? hasMore : !items.isEmpty();
+
+        return new Pagination<>(
+            query.page(),
+            query.perPage(),
+            total,
+            List.copyOf(items),
+            hasNext,
+            hasNext ? nextCursor(query, items) : null,
+            hasPrevious ? previousCursor(query, items) : null
+        );
+    }
+
+    private static String nextCursor(final CategorySearchQuery query, final List<CategorySummary> items) {
+        if (items.isEmpty() || query.isFullTextSearch()) {
+            return null;
+        }
+
+        final CategorySummary last = items.get(items.size() - 1);
+        return sortValueOf(last, query.sort())
+            .map(value -> Cursor.next(query.sort(), query.direction(), value, last.id().toString()).encode())
+            .orElse(null);
+    }
+
+    private static String previousCursor(final CategorySearchQuery query, final List<CategorySummary> items) {
+        if (items.isEmpty() || query.isFullTextSearch()) {
+            return null;
+        }
+
+        final CategorySummary first = items.get(0);
+        return sortValueOf(first, query.sort())
+            .map(value -> Cursor.previous(query.sort(), query.direction(), value, first.id().toString()).encode())
+            .orElse(null);
+    }
+
+    private static Optional<String> sortValueOf(final CategorySummary summary, final String sort) {
+        return switch (sort) {
+            case "name" -> Optional.of(summary.name());
+            case "createdAt" -> Optional.of(summary.createdAt().toString());
+            case "updatedAt" -> Optional.of(summary.updatedAt().toString());
+            default -> Optional.empty();
+        };
+    }
+}
@@ -4,42 +4,215 @@ import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.Cursor;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper;
 import com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static com.fullcycle.admin.catalog.domain.pagination.Pagination.UNKNOWN_TOTAL;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.cursorOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.pageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.seekPageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper.timestampOf;
+import static com.fullcycle.admin.catalog.infrastructure.configuration.jpa.SqlFunctionsMetadataContributor.BINARY_ORDER;
+import static com.fullcycle.admin.catalog.infrastructure.configuration.jpa.SqlFunctionsMetadataContributor.COUNT_OVER;
 import static com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils.like;
+import static com.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils.seek;
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
 
 @Service
+@ConditionalOnProperty(name = "category.gateway", havingValue = "jpa", matchIfMissing = true)
 public class CategoryPostgreSQLGateway implements CategoryGateway {
+    private static final String FULL_TEXT_SEARCH_SQL = """
+        SELECT c.id, c.name, c.description, c.is_active, c.created_at, c.updated_at, c.deleted_at, c.version, %s AS total
+        FROM category c, websearch_to_tsquery('simple', :terms) search_query
+        WHERE c.search_vector @@ search_query
+        ORDER BY ts_rank(c.search_vector, search_query) DESC, c.%s %s, c.id %s
+        """;
+
+    private static final String FULL_TEXT_COUNT_SQL = """
+        SELECT count(*)
+        FROM category c
+        WHERE c.search_vector @@ websearch_to_tsquery('simple', :terms)
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO category (id, name, description, is_active, created_at, updated_at, deleted_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE category
+        SET name = ?, description = ?, is_active = ?, updated_at = ?,
+            deleted_at = CASE WHEN ? THEN NULL ELSE COALESCE(deleted_at, ?) END,
+            version = version + 1
+        WHERE id = ?
+        """;
+
+    private static final String UPDATE_RETURNING_SQL = UPDATE_SQL + "RETURNING " + CategoryRowMapper.COLUMNS;
+
+    private static final String VERSIONED_UPDATE_SQL = UPDATE_SQL + "AND version = ?\n";
+
+    private static final String VERSIONED_UPDATE_RETURNING_SQL = VERSIONED_UPDATE_SQL + "RETURNING " + CategoryRowMapper.COLUMNS;
+
+    private static final String EXISTS_SQL = "SELECT count(*) FROM category WHERE id = ?";
+
+    private static final String SELECT_UPDATED_SQL = "SELECT " + CategoryRowMapper.COLUMNS + " FROM category WHERE id = ?";
+
+    private static final String FULL_TEXT_DELETE_SQL = """
+        DELETE FROM category c
+        WHERE c.search_vector @@ websearch_to_tsquery('simple', :terms)
+        """;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final List<String> SUMMARY_ATTRIBUTES = List.of(
+        "id", "name", "description", "isActive", "createdAt", "updatedAt", "deletedAt", "version"
+    );
+
+    private static final int TOTAL_COLUMN = SUMMARY_ATTRIBUTES.size();
+
     private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryEntityCache entityCache;
+    private final CategoryTable table;
 
-    public CategoryPostgreSQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryPostgreSQLGateway(
+        final CategoryRepository categoryRepository,
+        final EntityManager entityManager,
+        final JdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate
+    ) {
         this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityCache = new CategoryEntityCache(entityManager.getEntityManagerFactory());
+        this.table = new CategoryTable(jdbcTemplate);
     }
 
     @Override
     public Category create(final Category category) {
-        return save(category);
+        return categoryRepository.save(CategoryJpaEntity.newEntity(category)).toDomain();
     }
 
     @Override
-    public void deleteById(final CategoryID id) {
-        final UUID idValue = id.getValue();
-        if (categoryRepository.existsById(idValue)) {
-            categoryRepository.deleteById(idValue);
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
         }
+
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, categories, categories.size(), (statement, category) -> {
+                statement.setObject(1, category.getId().getValue());
+                statement.setString(2, category.getName());
+                statement.setString(3, category.getDescription());
+                statement.setBoolean(4, category.isActive());
+                statement.setObject(5, timestampOf(category.getCreatedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+                statement.setObject(6, timestampOf(category.getUpdatedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+                statement.setObject(7, timestampOf(category.getDeletedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+            })
+        );
+        entityCache.evictQueries();
+
+        return List.copyOf(categories);
+    }
+
+    @Override
+    public long importAll(final Iterator<Category> categories) {
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(status -> table.isPostgreSQL()
+                ? CategoryImport.copyAll(jdbcTemplate, categories)
+                : CategoryImport.insertAll(categories, this::createAll)
+            )).orElse(0L);
+        } finally {
+            entityCache.evictQueries();
+        }
+    }
+
+    @Override
+    public long deleteById(final CategoryID id) {
+        return categoryRepository.removeById(id.getValue());
+    }
+
+    @Override
+    public long deleteAllById(final List<CategoryID> ids) {
+        final List<UUID> values = ids.stream().map(CategoryID::getValue).distinct().toList();
+        long deleted = 0;
+
+        for (int from = 0; from < values.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += categoryRepository.removeAllByIdIn(
+                values.subList(from, Math.min(values.size(), from + DELETE_CHUNK_SIZE))
+            );
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public long deleteAll(final CategorySearchQuery query) {
+        if (!query.hasTerms()) {
+            throw DomainException.from(Error.of("'search' is required to delete categories by filter"));
+        }
+
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            if (query.isFullTextSearch() && table.isPostgreSQL()) {
+                return (long) entityManager.createNativeQuery(FULL_TEXT_DELETE_SQL)
+                    .setParameter("terms", query.terms().trim())
+                    .executeUpdate();
+            }
+
+            final Specification<CategoryJpaEntity> specification = query.isFullTextSearch()
+                ? findByAllWords(query.terms())
+                : findByNameOrDescription(query.terms());
+
+            final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            final CriteriaDelete<CategoryJpaEntity> criteriaDelete =
+                criteriaBuilder.createCriteriaDelete(CategoryJpaEntity.class);
+            final Root<CategoryJpaEntity> root = criteriaDelete.from(CategoryJpaEntity.class);
+
+            criteriaDelete.where(specification.toPredicate(root, null, criteriaBuilder));
+
+            return (long) entityManager.createQuery(criteriaDelete).executeUpdate();
+        })).orElse(0L);
     }
 
     @Override
@@ -49,37 +222,353 @@ public class CategoryPostgreSQLGateway implements CategoryGateway {
 
     @Override
     public Category update(final Category category) {
-        return save(category);
+        // merge would insert a detached entity whose row is gone, so load it first to keep this update-only
+        return transactionTemplate.execute(status -> {
+            if (categoryRepository.findById(category.getId().getValue()).isEmpty()) {
+                throw NotFoundException.from(Category.class, category.getId().toString());
+            }
+
+            return categoryRepository.save(CategoryJpaEntity.from(category)).toDomain();
+        });
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category) {
+        final PreparedStatementSetter parameters = statement -> setUpdateParameters(statement, category);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                if (table.isPostgreSQL()) {
+                    return jdbcTemplate.query(UPDATE_RETURNING_SQL, parameters, CategoryRowMapper.CATEGORY).stream().findFirst();
+                }
+
+                if (jdbcTemplate.update(UPDATE_SQL, parameters) == 0) {
+                    return Optional.empty();
+                }
+
+                return findUpdated(category.getId());
+            });
+        } finally {
+            entityCache.evict(List.of(category.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category, final long expectedVersion) {
+        final PreparedStatementSetter parameters = statement -> {
+            setUpdateParameters(statement, category);
+            statement.setLong(8, expectedVersion);
+        };
+
+        try {
+            return transactionTemplate.execute(status -> {
+                final Optional<Category> updated;
+
+                if (table.isPostgreSQL()) {
+                    updated = jdbcTemplate.query(VERSIONED_UPDATE_RETURNING_SQL, parameters, CategoryRowMapper.CATEGORY)
+                        .stream()
+                        .findFirst();
+                } else {
+                    updated = jdbcTemplate.update(VERSIONED_UPDATE_SQL, parameters) == 0
+                        ? Optional.empty()
+                        : findUpdated(category.getId());
+                }
+
+                if (updated.isEmpty() && exists(category.getId())) {
+                    throw ConflictException.from(Category.class, category.getId().toString(), expectedVersion);
+                }
+
+                return updated;
+            });
+        } finally {
+            entityCache.evict(List.of(category.getId()));
+        }
     }
 
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery query) {
-        Pageable pageRequest = PageRequest.of(
-            query.page(),
-            query.perPage(),
-            Sort.by(Direction.fromString(query.direction()), query.sort())
-        );
+        return findAllSummaries(query).map(CategorySummary::toCategory);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery query) {
+        if (query.isFullTextSearch()) {
+            return findAllByRelevance(query);
+        }
 
-        final Specification<CategoryJpaEntity> specification = Optional.ofNullable(query.terms())
-            .filter(term -> !term.isBlank())
+        final Specification<CategoryJpaEntity> specification = Optional.of(query)
+            .filter(CategorySearchQuery::hasTerms)
+            .map(CategorySearchQuery::terms)
             .map(this::findByNameOrDescription)
             .orElse(null);
 
-        final Page<CategoryJpaEntity> pageResult = categoryRepository.findAll(specification, pageRequest);
+        return query.hasCursor() ? findAllByCursor(query, specification) : findAllByPage(query, specification);
+    }
+
+    @Override
+    public long exportAll(final Consumer<CategorySummary> consumer) {
+        return CategoryExport.exportAll(jdbcTemplate, consumer);
+    }
+
+    private Pagination<CategorySummary> findAllByPage(
+        final CategorySearchQuery query,
+        final Specification<CategoryJpaEntity> specification
+    ) {
+        final Sort sort = sortBy(query.sort(), Direction.fromString(query.direction()));
+        final int offset = query.page() * query.perPage();
+
+        final Optional<Long> estimatedTotal = query.count() == CountStrategy.ESTIMATED && specification == null
+            ? table.estimateTotal()
+            : Optional.empty();
 
-        return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::toDomain).toList()
+        final boolean countExactly = query.count() == CountStrategy.EXACT
+            || (query.count() == CountStrategy.ESTIMATED && estimatedTotal.isEmpty());
+
+        // only the unfiltered first page repeats often enough to be worth a query cache entry
+        final boolean cacheable = specification == null && offset == 0;
+
+        if (countExactly) {
+            final List<Tuple> rows = findRows(specification, sort, offset, query.perPage(), true, cacheable);
+            final List<CategorySummary> items = rows.stream().map(row -> summaryOf(row.toArray())).toList();
+            final long total = rows.isEmpty()
+                ? (offset == 0 ? 0 : count(specification, cacheable))
+                : rows.get(0).get(TOTAL_COLUMN, Long.class);
+
+            return pageOf(query, items, total, offset + items.size() < total);
+        }
+
+        final List<CategorySummary> rows = findSummaries(specification, sort, offset, query.perPage() + 1, cacheable);
+        final List<CategorySummary> items = rows.subList(0, Math.min(rows.size(), query.perPage()));
+
+        return pageOf(query, items, estimatedTotal.orElse(UNKNOWN_TOTAL), rows.size() > query.perPage());
+    }
+
+    private Pagination<CategorySummary> findAllByRelevance(final CategorySearchQuery query) {
+        if (query.hasCursor()) {
+            throw DomainException.from(Error.of("'cursor' is not supported by full-text search"));
+        }
+
+        if (!table.isPostgreSQL()) {
+            return findAllByPage(query, findByAllWords(query.terms()));
+        }
+
+        final String column = table.orderColumnOf(query.sort());
+        final String direction = Direction.fromString(query.direction()).name();
+        final boolean countExactly = query.count() != CountStrategy.NONE;
+        final int offset = query.page() * query.perPage();
+
+        final String sql = FULL_TEXT_SEARCH_SQL.formatted(
+            countExactly ? "count(*) OVER()" : "CAST(-1 AS BIGINT)",
+            column,
+            direction,
+            direction
+        );
+
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = entityManager.createNativeQuery(sql, CategoryJpaEntity.SUMMARY_WITH_TOTAL_MAPPING)
+            .setParameter("terms", query.terms().trim())
+            .setFirstResult(offset)
+            .setMaxResults(countExactly ? query.perPage() : query.perPage() + 1)
+            .getResultList();
+
+        final List<CategorySummary> items = rows.stream()
+            .limit(query.perPage())
+            .map(CategoryPostgreSQLGateway::summaryOf)
+            .toList();
+
+        if (!countExactly) {
+            return pageOf(query, items, UNKNOWN_TOTAL, rows.size() > query.perPage());
+        }
+
+        final long total = rows.isEmpty()
+            ? (offset == 0 ? 0 : countByRelevance(query.terms().trim()))
+            : ((Number) rows.get(0)[TOTAL_COLUMN]).longValue();
+
+        return pageOf(query, items, total, offset + items.size() < total);
+    }
+
+    private long countByRelevance(final String terms) {
+        return ((Number) entityManager.createNativeQuery(FULL_TEXT_COUNT_SQL)
+            .setParameter("terms", terms)
+            .getSingleResult()).longValue();
+    }
+
+    private Pagination<CategorySummary> findAllByCursor(
+        final CategorySearchQuery query,
+        final Specification<CategoryJpaEntity> specification
+    ) {
+        final Cursor cursor = cursorOf(query);
+
+        final Direction direction = Direction.fromString(query.direction());
+        final Direction seekDirection = cursor.backward() ? reverse(direction) : direction;
+
+        final List<CategorySummary> rows = findSummaries(
+            Specification.where(specification).and(seekFrom(cursor, seekDirection)),
+            sortBy(query.sort(), seekDirection),
+            0,
+            query.perPage() + 1,
+            false
         );
+
+        return seekPageOf(query, cursor, rows, totalOf(query, specification));
+    }
+
+    private long totalOf(final CategorySearchQuery query, final Specification<CategoryJpaEntity> specification) {
+        return switch (query.count()) {
+            case EXACT -> count(specification, specification == null);
+            case ESTIMATED -> specification == null
+                ? table.estimateTotal().orElseGet(() -> count(null, true))
+                : count(specification, false);
+            case NONE -> UNKNOWN_TOTAL;
+        };
+    }
+
+    // every search term would otherwise leave its own total in the query cache, so only the unfiltered one goes there
+    private long count(final Specification<CategoryJpaEntity> specification, final boolean cacheable) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+        final Root<CategoryJpaEntity> root = criteriaQuery.from(CategoryJpaEntity.class);
+
+        criteriaQuery.select(criteriaBuilder.count(root));
+        if (specification != null) {
+            criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(criteriaQuery)
+            .setHint(CACHEABLE, cacheable)
+            .getSingleResult();
+    }
+
+    private List<CategorySummary> findSummaries(
+        final Specification<CategoryJpaEntity> specification,
+        final Sort sort,
+        final int offset,
+        final int limit,
+        final boolean cacheable
+    ) {
+        return findRows(specification, sort, offset, limit, false, cacheable).stream()
+            .map(row -> summaryOf(row.toArray()))
+            .toList();
+    }
+
+    private List<Tuple> findRows(
+        final Specification<CategoryJpaEntity> specification,
+        final Sort sort,
+        final int offset,
+        final int limit,
+        final boolean withTotal,
+        final boolean cacheable
+    ) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        final Root<CategoryJpaEntity> root = criteriaQuery.from(CategoryJpaEntity.class);
+
+        final List<Selection<?>> selections = new ArrayList<>(SUMMARY_ATTRIBUTES.stream()
+            .<Selection<?>>map(root::get)
+            .toList());
+        if (withTotal) {
+            selections.add(criteriaBuilder.function(COUNT_OVER, Long.class));
+        }
+
+        criteriaQuery.multiselect(selections);
+        restrict(criteriaQuery, root, criteriaBuilder, specification, sort);
+
+        return entityManager.createQuery(criteriaQuery)
+            .setHint(CACHEABLE, cacheable)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private void restrict(
+        final CriteriaQuery<?> criteriaQuery,
+        final Root<CategoryJpaEntity> root,
+        final CriteriaBuilder criteriaBuilder,
+        final Specification<CategoryJpaEntity> specification,
+        final Sort sort
+    ) {
+        if (specification != null) {
+            criteriaQuery.where(specification.toPredicate(root, criteriaQuery, criteriaBuilder));
+        }
+
+        criteriaQuery.orderBy(sort.stream()
+            .map(order -> {
+                final Expression<?> expression = table.sortsByCodePoint(order.getProperty())
+                    ? criteriaBuilder.function(BINARY_ORDER, String.class, root.get(order.getProperty()))
+                    : root.get(order.getProperty());
+                return order.isAscending() ? criteriaBuilder.asc(expression) : criteriaBuilder.desc(expression);
+            })
+            .toList());
+    }
+
+    private Specification<CategoryJpaEntity> seekFrom(final Cursor cursor, final Direction direction) {
+        try {
+            final UUID id = UUID.fromString(cursor.id());
+            return switch (cursor.sort()) {
+                case "name" ->
+                    seek("name", cursor.value(), "id", id, direction.isAscending(), table.sortsByCodePoint("name"));
+                case "createdAt", "updatedAt" ->
+                    seek(cursor.sort(), Instant.parse(cursor.value()), "id", id, direction.isAscending(), false);
+                default -> throw DomainException.from(Error.of("'sort' does not support cursor pagination"));
+            };
+        } catch (final DomainException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw DomainException.from(Error.of("'cursor' is invalid"));
+        }
+    }
+
+    private Sort sortBy(final String property, final Direction direction) {
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    private Direction reverse(final Direction direction) {
+        return direction.isAscending() ? Direction.DESC : Direction.ASC;
+    }
+
+    private Optional<Category> findUpdated(final CategoryID id) {
+        return jdbcTemplate.query(SELECT_UPDATED_SQL, CategoryRowMapper.CATEGORY, id.getValue()).stream().findFirst();
+    }
+
+    private boolean exists(final CategoryID id) {
+        final Long count = jdbcTemplate.queryForObject(EXISTS_SQL, Long.class, id.getValue());
+        return count != null && count > 0;
+    }
+
+    private static void setUpdateParameters(
+        final PreparedStatement statement,
+        final Category category
+    ) throws SQLException {
+        statement.setString(1, category.getName());
+        statement.setString(2, category.getDescription());
+        statement.setBoolean(3, category.isActive());
+        statement.setObject(4, timestampOf(category.getUpdatedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+        statement.setBoolean(5, category.isActive());
+        statement.setObject(6, timestampOf(category.getUpdatedAt()), Types.TIMESTAMP_WITH_TIMEZONE);
+        statement.setObject(7, category.getId().getValue());
     }
 
-    private Category save(final Category category) {
-        return categoryRepository.save(CategoryJpaEntity.from(category)).toDomain();
+    private static CategorySummary summaryOf(final Object[] row) {
+        return new CategorySummary(
+            CategoryID.from((UUID) row[0]),
+            (String) row[1],
+            (String) row[2],
+            (Boolean) row[3],
+            (Instant) row[4],
+            (Instant) row[5],
+            (Instant) row[6],
+            ((Number) row[7]).longValue()
+        );
     }
 
     private Specification<CategoryJpaEntity> findByNameOrDescription(final String term) {
         return SpecificationUtils.<CategoryJpaEntity>like("name", term).or(like("description", term));
     }
+
+    private Specification<CategoryJpaEntity> findByAllWords(final String terms) {
+        return Arrays.stream(terms.trim().split("\\s+"))
+            .map(this::findByNameOrDescription)
+            .reduce(Specification::and)
+            .orElse(null);
+    }
 }
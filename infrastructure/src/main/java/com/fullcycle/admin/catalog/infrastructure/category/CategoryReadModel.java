@@ -0,0 +1,520 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.Cursor;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.fullcycle.admin.catalog.domain.pagination.Pagination.UNKNOWN_TOTAL;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.cursorOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.pageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.CategoryPages.seekPageOf;
+import static com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper.COLUMNS;
+import static com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRowMapper.timestampOf;
+
+public class CategoryReadModel implements SmartLifecycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryReadModel.class);
+
+    private static final String SELECT_ALL_SQL = "SELECT " + COLUMNS + " FROM category";
+
+    private static final String SELECT_UPDATED_SINCE_SQL = SELECT_ALL_SQL + " WHERE updated_at >= :since";
+
+    private static final String SELECT_BY_IDS_SQL = SELECT_ALL_SQL + " WHERE id IN (:ids)";
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM category";
+
+    private static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private static final Map<String, Comparator<Row>> INDEXES = Map.of(
+        "id", CategoryReadModel::compareIds,
+        "name", indexOf(CategorySummary::name, CategoryReadModel::compareCodePoints),
+        "description", indexOf(CategorySummary::description, CategoryReadModel::compareCodePoints),
+        "isActive", indexOf(CategorySummary::isActive),
+        "createdAt", indexOf(CategorySummary::createdAt),
+        "updatedAt", indexOf(CategorySummary::updatedAt),
+        "deletedAt", indexOf(CategorySummary::deletedAt)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration refreshInterval;
+    private final Duration refreshOverlap;
+    private final Duration fullRefreshInterval;
+    private final Duration maxStaleness;
+    private final Object refreshLock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale;
+    private volatile ScheduledExecutorService executor;
+
+    public CategoryReadModel(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final Duration refreshInterval,
+        final Duration refreshOverlap,
+        final Duration fullRefreshInterval,
+        final Duration maxStaleness
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "'jdbcTemplate' is required");
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "'refreshInterval' is required");
+        this.refreshOverlap = Objects.requireNonNull(refreshOverlap, "'refreshOverlap' is required");
+        this.fullRefreshInterval = Objects.requireNonNull(fullRefreshInterval, "'fullRefreshInterval' is required");
+        this.maxStaleness = Objects.requireNonNull(maxStaleness, "'maxStaleness' is required");
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            final Thread thread = new Thread(task, "category-read-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    public boolean isAvailable() {
+        final Snapshot current = snapshot;
+        return current != null
+            && !stale
+            && Duration.between(current.refreshedAt(), Instant.now()).compareTo(maxStaleness) <= 0;
+    }
+
+    public boolean supports(final CategorySearchQuery query) {
+        return !query.isFullTextSearch() && INDEXES.containsKey(query.sort());
+    }
+
+    public int size() {
+        final Snapshot current = snapshot;
+        return current == null ? 0 : current.rows().size();
+    }
+
+    public Optional<CategorySummary> findById(final CategoryID id) {
+        final Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.ofNullable(current.rows().get(id)).map(Row::summary);
+    }
+
+    public Pagination<CategorySummary> findAll(final CategorySearchQuery query) {
+        final Snapshot current = Objects.requireNonNull(snapshot, "the read model is not loaded yet");
+        final Row[] index = Optional.ofNullable(current.indexes().get(query.sort()))
+            .orElseThrow(() -> DomainException.from(Error.of("'sort' must be a sortable category field")));
+        final String term = query.hasTerms() ? query.terms().trim().toUpperCase(Locale.ROOT) : null;
+        final boolean ascending = !"desc".equalsIgnoreCase(query.direction());
+
+        return query.hasCursor()
+            ? findAllByCursor(query, index, term, ascending)
+            : findAllByPage(query, index, term, ascending);
+    }
+
+    public void refresh() {
+        synchronized (refreshLock) {
+            try {
+                final Snapshot current = snapshot;
+                final Instant now = Instant.now();
+                if (current == null || stale || !current.fullyRefreshedAt().plus(fullRefreshInterval).isAfter(now)) {
+                    fullRefresh(now);
+                    return;
+                }
+
+                final MapSqlParameterSource parameters = new MapSqlParameterSource().addValue(
+                    "since",
+                    timestampOf(current.watermark().minus(refreshOverlap)),
+                    Types.TIMESTAMP_WITH_TIMEZONE
+                );
+                final List<CategorySummary> loaded = jdbcTemplate.query(
+                    SELECT_UPDATED_SINCE_SQL,
+                    parameters,
+                    CategoryRowMapper.SUMMARY
+                );
+
+                final Snapshot merged = current.merge(Set.of(), loaded).refreshedAt(now);
+
+                // a hard delete leaves no row for updated_at to find, so only the count can reveal it; deletes
+                // made through this service or seen by the change listener are applied by reload(ids) right away
+                final Long total = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Long.class);
+                if (total == null || total != merged.rows().size()) {
+                    fullRefresh(now);
+                    return;
+                }
+
+                snapshot = merged;
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Could not refresh the category read model", e);
+            }
+        }
+    }
+
+    private void fullRefresh(final Instant now) {
+        snapshot = Snapshot.of(jdbcTemplate.query(SELECT_ALL_SQL, CategoryRowMapper.SUMMARY), now);
+        stale = false;
+    }
+
+    // bulk writes call this on the request thread, so only stop serving the snapshot and leave the full
+    // reload to the refresh thread; a model that is not running reloads on its next refresh()
+    public void reload() {
+        synchronized (refreshLock) {
+            stale = true;
+        }
+
+        final ScheduledExecutorService current = executor;
+        if (current != null) {
+            try {
+                current.execute(this::refresh);
+            } catch (final RejectedExecutionException e) {
+                // the model is stopping, and stays stale until a later refresh reloads it
+            }
+        }
+    }
+
+    public void reload(final Collection<CategoryID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        synchronized (refreshLock) {
+            final Snapshot current = snapshot;
+            if (current == null || stale) {
+                return;
+            }
+
+            try {
+                final List<CategorySummary> loaded = new ArrayList<>(ids.size());
+                final List<UUID> values = ids.stream().map(CategoryID::getValue).distinct().toList();
+                for (int from = 0; from < values.size(); from += RELOAD_CHUNK_SIZE) {
+                    final List<UUID> chunk = values.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, values.size()));
+                    loaded.addAll(jdbcTemplate.query(
+                        SELECT_BY_IDS_SQL,
+                        new MapSqlParameterSource("ids", chunk),
+                        CategoryRowMapper.SUMMARY
+                    ));
+                }
+
+                snapshot = current.merge(Set.copyOf(ids), loaded);
+            } catch (final RuntimeException e) {
+                // the snapshot may now miss a write, so stop serving it until the next full refresh
+                stale = true;
+                LOGGER.warn("Could not reload {} categories into the read model", ids.size(), e);
+            }
+        }
+    }
+
+    private static Pagination<CategorySummary> findAllByPage(
+        final CategorySearchQuery query,
+        final Row[] index,
+        final String term,
+        final boolean ascending
+    ) {
+        final long offset = (long) query.page() * query.perPage();
+        final List<CategorySummary> items = new ArrayList<>(Math.min(query.perPage(), index.length));
+
+        long matches = 0;
+        if (term == null) {
+            matches = index.length;
+            for (long position = offset; position < Math.min(offset + query.perPage(), index.length); position++) {
+                items.add(at(index, (int) position, ascending).summary());
+            }
+        } else {
+            for (int position = 0; position < index.length; position++) {
+                final Row row = at(index, position, ascending);
+                if (!row.matches(term)) {
+                    continue;
+                }
+
+                if (matches >= offset && items.size() < query.perPage()) {
+                    items.add(row.summary());
+                }
+                matches++;
+
+                if (query.count() == CountStrategy.NONE && matches > offset + query.perPage()) {
+                    break;
+                }
+            }
+        }
+
+        final long total = query.count() == CountStrategy.NONE ? UNKNOWN_TOTAL : matches;
+        return pageOf(query, List.copyOf(items), total, offset + items.size() < matches);
+    }
+
+    private static Pagination<CategorySummary> findAllByCursor(
+        final CategorySearchQuery query,
+        final Row[] index,
+        final String term,
+        final boolean ascending
+    ) {
+        final Cursor cursor = cursorOf(query);
+        final boolean seekAscending = cursor.backward() != ascending;
+
+        final int found = Arrays.binarySearch(index, probeOf(cursor), INDEXES.get(query.sort()));
+        final int step = seekAscending ? 1 : -1;
+        int position = found >= 0 ? found + step : (seekAscending ? -found - 1 : -found - 2);
+
+        final List<CategorySummary> rows = new ArrayList<>(query.perPage() + 1);
+        for (; position >= 0 && position < index.length && rows.size() <= query.perPage(); position += step) {
+            if (term == null || index[position].matches(term)) {
+                rows.add(index[position].summary());
+            }
+        }
+
+        final long total = query.count() == CountStrategy.NONE ? UNKNOWN_TOTAL : count(index, term);
+        return seekPageOf(query, cursor, rows, total);
+    }
+
+    private static Row probeOf(final Cursor cursor) {
+        if (!Set.of("name", "createdAt", "updatedAt").contains(cursor.sort())) {
+            throw DomainException.from(Error.of("'sort' does not support cursor pagination"));
+        }
+
+        try {
+            final CategoryID id = CategoryID.from(cursor.id());
+            final String name = "name".equals(cursor.sort()) ? cursor.value() : null;
+            final Instant createdAt = "createdAt".equals(cursor.sort()) ? Instant.parse(cursor.value()) : null;
+            final Instant updatedAt = "updatedAt".equals(cursor.sort()) ? Instant.parse(cursor.value()) : null;
+
+            return Row.of(new CategorySummary(id, name, null, false, createdAt, updatedAt, null, 0));
+        } catch (final RuntimeException e) {
+            throw DomainException.from(Error.of("'cursor' is invalid"));
+        }
+    }
+
+    private static long count(final Row[] index, final String term) {
+        if (term == null) {
+            return index.length;
+        }
+
+        long matches = 0;
+        for (final Row row : index) {
+            if (row.matches(term)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static Row at(final Row[] index, final int position, final boolean ascending) {
+        return index[ascending ? position : index.length - 1 - position];
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Row> indexOf(
+        final Function<CategorySummary, T> field
+    ) {
+        return indexOf(field, Comparator.naturalOrder());
+    }
+
+    private static <T> Comparator<Row> indexOf(
+        final Function<CategorySummary, T> field,
+        final Comparator<? super T> order
+    ) {
+        final Comparator<Row> byField = Comparator.comparing(
+            row -> field.apply(row.summary()),
+            Comparator.nullsLast(order)
+        );
+        return byField.thenComparing(CategoryReadModel::compareIds);
+    }
+
+    // the gateways sort text with COLLATE "C", which on UTF-8 is code point order; String#compareTo uses UTF-16 units
+    private static int compareCodePoints(final String left, final String right) {
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (leftIndex < left.length() && rightIndex < right.length()) {
+            final int leftCodePoint = left.codePointAt(leftIndex);
+            final int rightCodePoint = right.codePointAt(rightIndex);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+
+            leftIndex += Character.charCount(leftCodePoint);
+            rightIndex += Character.charCount(rightCodePoint);
+        }
+
+        return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+    }
+
+    // PostgreSQL orders uuids by their unsigned bytes, unlike UUID#compareTo
+    private static int compareIds(final Row left, final Row right) {
+        final UUID leftId = left.summary().id().getValue();
+        final UUID rightId = right.summary().id().getValue();
+
+        final int mostSignificant = Long.compareUnsigned(leftId.getMostSignificantBits(), rightId.getMostSignificantBits());
+        return mostSignificant != 0
+            ? mostSignificant
+            : Long.compareUnsigned(leftId.getLeastSignificantBits(), rightId.getLeastSignificantBits());
+    }
+
+    private record Row(CategorySummary summary, String text) {
+        private static final char SEPARATOR = '\0';
+
+        static Row of(final CategorySummary summary) {
+            final String name = summary.name() == null ? "" : summary.name().toUpperCase(Locale.ROOT);
+            final String description = summary.description() == null ? "" : summary.description().toUpperCase(Locale.ROOT);
+            return new Row(summary, name + SEPARATOR + description);
+        }
+
+        boolean matches(final String term) {
+            return text.contains(term);
+        }
+    }
+
+    private record Snapshot(
+        Map<CategoryID, Row> rows,
+        Map<String, Row[]> indexes,
+        Instant watermark,
+        Instant refreshedAt,
+        Instant fullyRefreshedAt
+    ) {
+        static Snapshot of(final List<CategorySummary> summaries, final Instant now) {
+            final Map<CategoryID, Row> rows = new HashMap<>(summaries.size() * 2);
+            for (final CategorySummary summary : summaries) {
+                rows.put(summary.id(), Row.of(summary));
+            }
+
+            final Map<String, Row[]> indexes = new HashMap<>();
+            INDEXES.forEach((sort, comparator) -> {
+                final Row[] index = rows.values().toArray(Row[]::new);
+                Arrays.sort(index, comparator);
+                indexes.put(sort, index);
+            });
+
+            return new Snapshot(
+                Collections.unmodifiableMap(rows),
+                Map.copyOf(indexes),
+                watermarkOf(Instant.EPOCH, summaries),
+                now,
+                now
+            );
+        }
+
+        Snapshot refreshedAt(final Instant now) {
+            return new Snapshot(rows, indexes, watermark, now, fullyRefreshedAt);
+        }
+
+        // rows in 'removed' that were not loaded again no longer exist
+        Snapshot merge(final Set<CategoryID> removed, final List<CategorySummary> loaded) {
+            final Set<CategoryID> changed = new HashSet<>();
+            final List<Row> added = new ArrayList<>(loaded.size());
+            for (final CategorySummary summary : loaded) {
+                final Row current = rows.get(summary.id());
+                if (current == null || !current.summary().equals(summary)) {
+                    changed.add(summary.id());
+                    added.add(Row.of(summary));
+                }
+            }
+
+            final Set<CategoryID> loadedIds = new HashSet<>();
+            loaded.forEach(summary -> loadedIds.add(summary.id()));
+            for (final CategoryID id : removed) {
+                if (!loadedIds.contains(id) && rows.containsKey(id)) {
+                    changed.add(id);
+                }
+            }
+
+            if (changed.isEmpty()) {
+                return this;
+            }
+
+            final Map<CategoryID, Row> mergedRows = new HashMap<>(rows);
+            changed.forEach(mergedRows::remove);
+            added.forEach(row -> mergedRows.put(row.summary().id(), row));
+
+            final Map<String, Row[]> mergedIndexes = new HashMap<>();
+            indexes.forEach((sort, index) -> {
+                final Comparator<Row> comparator = INDEXES.get(sort);
+                final Row[] sorted = added.toArray(Row[]::new);
+                Arrays.sort(sorted, comparator);
+                mergedIndexes.put(sort, mergeIndex(index, changed, sorted, comparator, mergedRows.size()));
+            });
+
+            return new Snapshot(
+                Collections.unmodifiableMap(mergedRows),
+                Map.copyOf(mergedIndexes),
+                watermarkOf(watermark, loaded),
+                refreshedAt,
+                fullyRefreshedAt
+            );
+        }
+
+        private static Row[] mergeIndex(
+            final Row[] index,
+            final Set<CategoryID> changed,
+            final Row[] added,
+            final Comparator<Row> comparator,
+            final int size
+        ) {
+            final Row[] merged = new Row[size];
+            int position = 0;
+            int next = 0;
+            for (final Row row : index) {
+                if (changed.contains(row.summary().id())) {
+                    continue;
+                }
+
+                while (next < added.length && comparator.compare(added[next], row) < 0) {
+                    merged[position++] = added[next++];
+                }
+                merged[position++] = row;
+            }
+
+            while (next < added.length) {
+                merged[position++] = added[next++];
+            }
+
+            return merged;
+        }
+
+        private static Instant watermarkOf(final Instant watermark, final List<CategorySummary> summaries) {
+            Instant latest = watermark;
+            for (final CategorySummary summary : summaries) {
+                if (summary.updatedAt() != null && summary.updatedAt().isAfter(latest)) {
+                    latest = summary.updatedAt();
+                }
+            }
+            return latest;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+final class CategoryTable {
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String ESTIMATE_TOTAL_SQL =
+        "SELECT CAST(reltuples AS BIGINT) FROM pg_catalog.pg_class WHERE oid = 'category'::regclass";
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+        "id", "id",
+        "name", "name",
+        "description", "description",
+        "isActive", "is_active",
+        "createdAt", "created_at",
+        "updatedAt", "updated_at",
+        "deletedAt", "deleted_at"
+    );
+
+    private static final Set<String> TEXT_SORTS = Set.of("name", "description");
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String databaseProductName;
+
+    CategoryTable(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "'jdbcTemplate' is required");
+    }
+
+    static String columnOf(final String sort) {
+        return Optional.ofNullable(SORTABLE_COLUMNS.get(sort))
+            .orElseThrow(() -> DomainException.from(Error.of("'sort' must be a sortable category field")));
+    }
+
+    static String seekColumnOf(final String sort) {
+        return switch (sort) {
+            case "name", "createdAt", "updatedAt" -> SORTABLE_COLUMNS.get(sort);
+            default -> throw DomainException.from(Error.of("'sort' does not support cursor pagination"));
+        };
+    }
+
+    // a row-value comparison is an index range condition on (column, id), unlike the equivalent OR form
+    static String seekConditionOf(final String column, final boolean ascending) {
+        return "(%s, id) %s (:seekValue, :seekId)".formatted(column, ascending ? ">" : "<");
+    }
+
+    // text sorts compare code points, as the read model does, instead of following the database locale
+    boolean sortsByCodePoint(final String sort) {
+        return TEXT_SORTS.contains(sort) && isPostgreSQL();
+    }
+
+    String orderColumnOf(final String sort) {
+        final String column = columnOf(sort);
+        return sortsByCodePoint(sort) ? column + " COLLATE \"C\"" : column;
+    }
+
+    boolean isPostgreSQL() {
+        if (databaseProductName == null) {
+            databaseProductName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+        }
+
+        return POSTGRESQL.equals(databaseProductName);
+    }
+
+    Optional<Long> estimateTotal() {
+        if (!isPostgreSQL()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(jdbcTemplate.queryForObject(ESTIMATE_TOTAL_SQL, Long.class))
+            .filter(estimate -> estimate >= 0);
+    }
+}
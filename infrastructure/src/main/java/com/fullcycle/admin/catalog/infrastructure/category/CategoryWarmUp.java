@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+public class CategoryWarmUp implements ApplicationRunner, DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryWarmUp.class);
+
+    private final CategoryHotKeys hotKeys;
+    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final Path file;
+    private final int maxCategories;
+    private final int maxQueries;
+    private final Duration timeout;
+
+    public CategoryWarmUp(
+        final CategoryHotKeys hotKeys,
+        final GetCategoryByIdUseCase getCategoryByIdUseCase,
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final Path file,
+        final int maxCategories,
+        final int maxQueries,
+        final Duration timeout
+    ) {
+        this.hotKeys = Objects.requireNonNull(hotKeys, "'hotKeys' is required");
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase, "'getCategoryByIdUseCase' is required");
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase, "'listCategoriesUseCase' is required");
+        this.file = Objects.requireNonNull(file, "'file' is required");
+        this.maxCategories = maxCategories;
+        this.maxQueries = maxQueries;
+        this.timeout = Objects.requireNonNull(timeout, "'timeout' is required");
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        warmUp();
+    }
+
+    @Override
+    public void destroy() {
+        persist();
+    }
+
+    public int warmUp() {
+        final CategoryHotKeys.Snapshot snapshot;
+        try {
+            snapshot = CategoryHotKeys.Snapshot.load(file);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read category hot keys from {}, starting cold", file, e);
+            return 0;
+        }
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        int loaded = 0;
+
+        for (final String id : snapshot.categories()) {
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+            if (load(() -> getCategoryByIdUseCase.execute(id))) {
+                loaded++;
+            }
+        }
+
+        for (final CategoryHotKeys.Query query : snapshot.queries()) {
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+            if (load(() -> listCategoriesUseCase.execute(query.toSearchQuery()))) {
+                loaded++;
+            }
+        }
+
+        // the warm-up itself is not traffic; only count what this run actually serves
+        hotKeys.clear();
+
+        LOGGER.info("Warmed up {} category cache entries from {}", loaded, file);
+        return loaded;
+    }
+
+    public void persist() {
+        try {
+            hotKeys.snapshot(maxCategories, maxQueries).save(file);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not write category hot keys to {}", file, e);
+        }
+    }
+
+    private static boolean load(final Runnable loader) {
+        try {
+            loader.run();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class ReplicatedCategoryGateway implements CategoryGateway {
+    private final CategoryGateway categoryGateway;
+    private final CategoryReadModel readModel;
+
+    public ReplicatedCategoryGateway(final CategoryGateway categoryGateway, final CategoryReadModel readModel) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway, "'categoryGateway' is required");
+        this.readModel = Objects.requireNonNull(readModel, "'readModel' is required");
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return categoryGateway.create(category);
+        } finally {
+            readModel.reload(List.of(category.getId()));
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return categoryGateway.createAll(categories);
+        } finally {
+            readModel.reload(categories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public long importAll(final Iterator<Category> categories) {
+        try {
+            return categoryGateway.importAll(categories);
+        } finally {
+            // imported rows keep their own timestamps, so an incremental refresh could miss them
+            readModel.reload();
+        }
+    }
+
+    @Override
+    public long deleteById(final CategoryID id) {
+        try {
+            return categoryGateway.deleteById(id);
+        } finally {
+            readModel.reload(List.of(id));
+        }
+    }
+
+    @Override
+    public long deleteAllById(final List<CategoryID> ids) {
+        try {
+            return categoryGateway.deleteAllById(ids);
+        } finally {
+            readModel.reload(ids);
+        }
+    }
+
+    @Override
+    public long deleteAll(final CategorySearchQuery query) {
+        try {
+            return categoryGateway.deleteAll(query);
+        } finally {
+            readModel.reload();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (readModel.isAvailable()) {
+            final Optional<CategorySummary> summary = readModel.findById(id);
+            if (summary.isPresent()) {
+                return summary.map(CategorySummary::toCategory);
+            }
+        }
+
+        return categoryGateway.findById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return categoryGateway.update(category);
+        } finally {
+            readModel.reload(List.of(category.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category) {
+        try {
+            return categoryGateway.updateIfExists(category);
+        } finally {
+            readModel.reload(List.of(category.getId()));
+        }
+    }
+
+    @Override
+    public Optional<Category> updateIfExists(final Category category, final long expectedVersion) {
+        try {
+            return categoryGateway.updateIfExists(category, expectedVersion);
+        } finally {
+            readModel.reload(List.of(category.getId()));
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return findAllSummaries(query).map(CategorySummary::toCategory);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery query) {
+        if (readModel.isAvailable() && readModel.supports(query)) {
+            return readModel.findAll(query);
+        }
+
+        return categoryGateway.findAllSummaries(query);
+    }
+
+    @Override
+    public long exportAll(final Consumer<CategorySummary> consumer) {
+        return categoryGateway.exportAll(consumer);
+    }
+}
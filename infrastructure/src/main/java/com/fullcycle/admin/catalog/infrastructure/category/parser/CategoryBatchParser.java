@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalog.infrastructure.category.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CategoryBatchParser {
+    private static final ObjectReader REQUEST_READER = Json.getMapper().readerFor(CreateCategoryRequest.class);
+
+    private CategoryBatchParser() {}
+
+    public static List<CreateCategoryRequest> of(final InputStream body, final int maxSize) {
+        try (JsonParser parser = Json.getMapper().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw malformed();
+            }
+
+            final List<CreateCategoryRequest> requests = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                // stop before binding the rest of the array instead of materializing it first
+                if (requests.size() == maxSize) {
+                    throw DomainException.from(Error.of(
+                        "'categories' must have at most %d items, use POST /categories/import for larger loads"
+                            .formatted(maxSize)
+                    ));
+                }
+
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    throw malformed();
+                }
+
+                requests.add(REQUEST_READER.readValue(parser));
+            }
+
+            return requests;
+        } catch (JsonProcessingException e) {
+            throw malformed();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DomainException malformed() {
+        return DomainException.from(Error.of("'categories' must be a JSON array of objects"));
+    }
+}
@@ -0,0 +1,266 @@
+package com.fullcycle.admin.catalog.infrastructure.category.parser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoryCommand;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.validation.handler.Error;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public final class CategoryImportParser {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
+    private static final ObjectReader NDJSON_READER = Json.getMapper().readerFor(CreateCategoryRequest.class);
+
+    private CategoryImportParser() {}
+
+    public static Iterator<ImportCategoryCommand> of(final MediaType contentType, final InputStream body) {
+        final Charset charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+
+        if (TEXT_CSV.includes(contentType)) {
+            return new CsvRecords(reader);
+        }
+
+        if (MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            return new NdjsonRecords(reader);
+        }
+
+        throw DomainException.from(Error.of("'Content-Type' must be %s or %s".formatted(
+            MediaType.APPLICATION_NDJSON_VALUE,
+            TEXT_CSV_VALUE
+        )));
+    }
+
+    private abstract static class Records implements Iterator<ImportCategoryCommand> {
+        private ImportCategoryCommand next;
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                finished = next == null;
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public ImportCategoryCommand next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final ImportCategoryCommand command = next;
+            next = null;
+            return command;
+        }
+
+        protected abstract ImportCategoryCommand read() throws IOException;
+    }
+
+    private static final class NdjsonRecords extends Records {
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRecords(final BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected ImportCategoryCommand read() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+
+            try {
+                final CreateCategoryRequest request = NDJSON_READER.readValue(text);
+                if (request == null) {
+                    return ImportCategoryCommand.malformed(line, Error.of("'line' must be a JSON object"));
+                }
+
+                return ImportCategoryCommand.from(
+                    line,
+                    request.name(),
+                    request.description(),
+                    request.isActive() == null || request.isActive()
+                );
+            } catch (JsonProcessingException e) {
+                return ImportCategoryCommand.malformed(line, Error.of("'line' must be a JSON object"));
+            }
+        }
+    }
+
+    private static final class CsvRecords extends Records {
+        private final Reader reader;
+        private final int nameColumn;
+        private final int descriptionColumn;
+        private final int isActiveColumn;
+        private final int columns;
+        private long line = 1;
+        private int pending = -2;
+
+        private CsvRecords(final Reader reader) {
+            this.reader = reader;
+
+            final List<String> header = Optional.ofNullable(readRecordUnchecked())
+                .orElseThrow(() -> DomainException.from(Error.of("'header' must be informed")))
+                .stream()
+                .map(column -> column == null ? "" : column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+            this.nameColumn = header.indexOf("name");
+            this.descriptionColumn = header.indexOf("description");
+            this.isActiveColumn = header.indexOf("is_active");
+            this.columns = header.size();
+
+            if (nameColumn < 0) {
+                throw DomainException.from(Error.of("'header' must contain a 'name' column"));
+            }
+        }
+
+        @Override
+        protected ImportCategoryCommand read() throws IOException {
+            List<String> fields;
+            long recordLine;
+            do {
+                recordLine = line;
+                fields = readRecord();
+            } while (fields != null && fields.size() == 1 && fields.get(0) == null);
+
+            if (fields == null) {
+                return null;
+            }
+
+            if (fields.size() != columns) {
+                return ImportCategoryCommand.malformed(
+                    recordLine,
+                    Error.of("'line' has %d fields but the header has %d".formatted(fields.size(), columns))
+                );
+            }
+
+            final String isActive = isActiveColumn < 0 ? null : fields.get(isActiveColumn);
+            if (isActive != null && !isActive.equalsIgnoreCase("true") && !isActive.equalsIgnoreCase("false")) {
+                return ImportCategoryCommand.malformed(recordLine, Error.of("'is_active' must be true or false"));
+            }
+
+            return ImportCategoryCommand.from(
+                recordLine,
+                fields.get(nameColumn),
+                descriptionColumn < 0 ? null : fields.get(descriptionColumn),
+                isActive == null || Boolean.parseBoolean(isActive)
+            );
+        }
+
+        private List<String> readRecordUnchecked() {
+            try {
+                return readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private List<String> readRecord() throws IOException {
+            int character = nextCharacter();
+            if (character < 0) {
+                return null;
+            }
+
+            final List<String> fields = new ArrayList<>();
+            final StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (character < 0) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (character == '"') {
+                        final int following = nextCharacter();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            character = following;
+                            continue;
+                        }
+                    } else {
+                        if (character == '\n') {
+                            line++;
+                        }
+                        field.append((char) character);
+                    }
+                } else if (character == '"' && field.isEmpty() && !wasQuoted) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (character == ',') {
+                    fields.add(valueOf(field, wasQuoted));
+                    field.setLength(0);
+                    wasQuoted = false;
+                } else if (character < 0 || character == '\n' || character == '\r') {
+                    if (character == '\r') {
+                        final int following = nextCharacter();
+                        if (following != '\n') {
+                            pending = following;
+                        }
+                    }
+                    if (character >= 0) {
+                        line++;
+                    }
+                    fields.add(valueOf(field, wasQuoted));
+                    return fields;
+                } else {
+                    field.append((char) character);
+                }
+
+                character = nextCharacter();
+            }
+        }
+
+        private int nextCharacter() throws IOException {
+            if (pending != -2) {
+                final int character = pending;
+                pending = -2;
+                return character;
+            }
+
+            return reader.read();
+        }
+
+        private static String valueOf(final StringBuilder field, final boolean quoted) {
+            return field.isEmpty() && !quoted ? null : field.toString();
+        }
+    }
+}
@@ -2,18 +2,47 @@ package com.fullcycle.admin.catalog.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
+import javax.persistence.ColumnResult;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.SqlResultSetMapping;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+@SqlResultSetMapping(
+    name = CategoryJpaEntity.SUMMARY_WITH_TOTAL_MAPPING,
+    columns = {
+        @ColumnResult(name = "id", type = UUID.class),
+        @ColumnResult(name = "name", type = String.class),
+        @ColumnResult(name = "description", type = String.class),
+        @ColumnResult(name = "is_active", type = Boolean.class),
+        @ColumnResult(name = "created_at", type = Instant.class),
+        @ColumnResult(name = "updated_at", type = Instant.class),
+        @ColumnResult(name = "deleted_at", type = Instant.class),
+        @ColumnResult(name = "version", type = Long.class),
+        @ColumnResult(name = "total", type = Long.class)
+    }
+)
+public class CategoryJpaEntity implements Persistable<UUID> {
+    public static final String SUMMARY_WITH_TOTAL_MAPPING = "CategorySummaryWithTotal";
+    public static final String CACHE_REGION = "category";
+
     @Id
     private UUID id;
 
@@ -35,6 +64,13 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {}
 
     private CategoryJpaEntity(
@@ -44,7 +80,8 @@ public class CategoryJpaEntity {
         final boolean isActive,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
         this.id = Objects.requireNonNull(id, "'id' cannot be null");
         this.name = name;
@@ -53,6 +90,7 @@ public class CategoryJpaEntity {
         this.createdAt = Objects.requireNonNull(createdAt, "'createdAt' cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updatedAt' cannot be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
@@ -63,10 +101,28 @@ public class CategoryJpaEntity {
             category.isActive(),
             category.getCreatedAt(),
             category.getUpdatedAt(),
-            category.getDeletedAt()
+            category.getDeletedAt(),
+            category.getVersion()
         );
     }
 
+    public static CategoryJpaEntity newEntity(final Category category) {
+        final CategoryJpaEntity entity = from(category);
+        entity.isNew = true;
+        return entity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     public Category toDomain() {
         return Category.from(
             CategoryID.from(getId()),
@@ -75,10 +131,12 @@ public class CategoryJpaEntity {
             isActive(),
             getCreatedAt(),
             getUpdatedAt(),
-            getDeletedAt()
+            getDeletedAt(),
+            getVersion()
         );
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
@@ -134,4 +192,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(final Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalog.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public final class CategoryRowMapper {
+    public static final String COLUMNS = "id, name, description, is_active, created_at, updated_at, deleted_at, version";
+
+    public static final RowMapper<Category> CATEGORY = (resultSet, rowNumber) -> categoryOf(resultSet);
+
+    public static final RowMapper<CategorySummary> SUMMARY = (resultSet, rowNumber) -> summaryOf(resultSet);
+
+    private CategoryRowMapper() {}
+
+    public static Category categoryOf(final ResultSet resultSet) throws SQLException {
+        return Category.from(
+            CategoryID.from(resultSet.getObject("id", UUID.class)),
+            resultSet.getString("name"),
+            resultSet.getString("description"),
+            resultSet.getBoolean("is_active"),
+            instantOf(resultSet, "created_at"),
+            instantOf(resultSet, "updated_at"),
+            instantOf(resultSet, "deleted_at"),
+            resultSet.getLong("version")
+        );
+    }
+
+    public static CategorySummary summaryOf(final ResultSet resultSet) throws SQLException {
+        return new CategorySummary(
+            CategoryID.from(resultSet.getObject("id", UUID.class)),
+            resultSet.getString("name"),
+            resultSet.getString("description"),
+            resultSet.getBoolean("is_active"),
+            instantOf(resultSet, "created_at"),
+            instantOf(resultSet, "updated_at"),
+            instantOf(resultSet, "deleted_at"),
+            resultSet.getLong("version")
+        );
+    }
+
+    public static OffsetDateTime timestampOf(final Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    public static Instant instantOf(final ResultSet resultSet, final String column) throws SQLException {
+        final OffsetDateTime timestamp = resultSet.getObject(column, OffsetDateTime.class);
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -0,0 +1,204 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.cache;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CatalogVersion;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryChangeListener;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryEntityCache;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryHotKeys;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryJsonCache;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryPageCache;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryReadModel;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryWarmUp;
+import com.fullcycle.admin.catalog.infrastructure.category.ReplicatedCategoryGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.persistence.EntityManagerFactory;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(name = "category.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCacheConfiguration {
+    @Bean
+    public CatalogVersion catalogVersion() {
+        return new CatalogVersion();
+    }
+
+    @Bean
+    @Primary
+    public CachedCategoryGateway cachedCategoryGateway(
+        final CategoryGateway categoryGateway,
+        final CatalogVersion catalogVersion,
+        final ObjectProvider<CategoryReadModel> readModel,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${category.cache.maximum-size:10000}") final long maximumSize,
+        @Value("${category.cache.time-to-live:5m}") final Duration timeToLive
+    ) {
+        final Cache<CategoryID, CategorySummary> cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "categories"));
+
+        final CategoryReadModel model = readModel.getIfAvailable();
+        final CategoryGateway delegate = model == null
+            ? categoryGateway
+            : new ReplicatedCategoryGateway(categoryGateway, model);
+
+        return new CachedCategoryGateway(delegate, cache, catalogVersion);
+    }
+
+    // the polling refresh only bounds staleness; writes from other nodes or from outside the service reach the
+    // model promptly through the change listener, so keep category.cache.invalidation.enabled on alongside it
+    @Bean
+    @ConditionalOnProperty(name = "category.cache.read-model.enabled", havingValue = "true")
+    public CategoryReadModel categoryReadModel(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${category.cache.read-model.refresh-interval:5s}") final Duration refreshInterval,
+        @Value("${category.cache.read-model.refresh-overlap:1m}") final Duration refreshOverlap,
+        @Value("${category.cache.read-model.full-refresh-interval:10m}") final Duration fullRefreshInterval,
+        @Value("${category.cache.read-model.max-staleness:1m}") final Duration maxStaleness
+    ) {
+        final CategoryReadModel readModel = new CategoryReadModel(
+            jdbcTemplate,
+            refreshInterval,
+            refreshOverlap,
+            fullRefreshInterval,
+            maxStaleness
+        );
+
+        meterRegistry.ifAvailable(registry -> registry.gauge("category_read_model_size", readModel, CategoryReadModel::size));
+
+        return readModel;
+    }
+
+    @Bean
+    public CategoryPageCache categoryPageCache(
+        final CatalogVersion catalogVersion,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${category.cache.pages.maximum-size:1000}") final long maximumSize,
+        @Value("${category.cache.pages.time-to-live:1m}") final Duration timeToLive,
+        @Value("${category.cache.pages.stale-while-revalidate:10s}") final Duration staleWhileRevalidate,
+        @Value("${category.cache.pages.refresh-threads:2}") final int refreshThreads,
+        @Value("${category.cache.pages.refresh-queue-size:100}") final int refreshQueueSize
+    ) {
+        final Cache<CategoryPageCache.Key, CategoryPageCache.Entry> cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive.plus(staleWhileRevalidate))
+            .recordStats()
+            .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "category_pages"));
+
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("category-page-refresh-");
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            refreshThreads,
+            refreshThreads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(refreshQueueSize),
+            threadFactory
+        );
+
+        return new CategoryPageCache(cache, catalogVersion, timeToLive, refreshExecutor, Ticker.systemTicker());
+    }
+
+    @Bean
+    public CategoryJsonCache categoryJsonCache(
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${category.cache.json.maximum-size:10000}") final long maximumSize,
+        @Value("${category.cache.json.time-to-live:5m}") final Duration timeToLive
+    ) {
+        final Cache<CategoryJsonCache.Key, byte[]> cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "category_json"));
+
+        return new CategoryJsonCache(cache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public CategoryChangeListener categoryChangeListener(
+        final CachedCategoryGateway cachedCategoryGateway,
+        final EntityManagerFactory entityManagerFactory,
+        final ObjectProvider<CategoryReadModel> readModel,
+        final DataSourceProperties dataSourceProperties,
+        @Value("${category.cache.invalidation.reconnect-delay:1s}") final Duration reconnectDelay,
+        @Value("${category.cache.invalidation.max-reconnect-delay:30s}") final Duration maxReconnectDelay
+    ) {
+        final String url = dataSourceProperties.determineUrl();
+        final String username = dataSourceProperties.determineUsername();
+        final String password = dataSourceProperties.determinePassword();
+
+        return new CategoryChangeListener(
+            () -> DriverManager.getConnection(url, username, password),
+            cachedCategoryGateway,
+            new CategoryEntityCache(entityManagerFactory),
+            readModel.getIfAvailable(),
+            reconnectDelay,
+            maxReconnectDelay,
+            DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.cache.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+    public CategoryHotKeys categoryHotKeys(
+        @Value("${category.cache.warm-up.max-tracked-keys:100000}") final int maxTrackedKeys
+    ) {
+        return new CategoryHotKeys(maxTrackedKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.cache.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+    public CategoryWarmUp categoryWarmUp(
+        final CategoryHotKeys categoryHotKeys,
+        final GetCategoryByIdUseCase getCategoryByIdUseCase,
+        final ListCategoriesUseCase listCategoriesUseCase,
+        @Value("${category.cache.warm-up.file:category-hot-keys.json}") final Path file,
+        @Value("${category.cache.warm-up.categories:1000}") final int maxCategories,
+        @Value("${category.cache.warm-up.queries:100}") final int maxQueries,
+        @Value("${category.cache.warm-up.timeout:30s}") final Duration timeout
+    ) {
+        return new CategoryWarmUp(
+            categoryHotKeys,
+            getCategoryByIdUseCase,
+            listCategoriesUseCase,
+            file,
+            maxCategories,
+            maxQueries,
+            timeout
+        );
+    }
+}
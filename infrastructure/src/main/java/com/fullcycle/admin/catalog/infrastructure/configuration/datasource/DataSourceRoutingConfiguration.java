@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.datasource;
+
+import com.fullcycle.admin.catalog.infrastructure.category.CatalogVersion;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfiguration {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource masterDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    // Reads that miss the category caches right after a write or an invalidation would otherwise load the
+    // lagging replica row and keep it cached for a full TTL, so those reads go to master until the lag passes.
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("masterDataSource") final DataSource masterDataSource,
+        @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+        final ObjectProvider<CatalogVersion> catalogVersion,
+        @Value("${category.cache.replica-lag:5s}") final Duration replicaLag
+    ) {
+        final CatalogVersion version = catalogVersion.getIfAvailable();
+        final BooleanSupplier readFromMaster = version == null ? () -> false : () -> version.changedWithin(replicaLag);
+
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(masterDataSource, replicaDataSource, readFromMaster)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        MASTER,
+        REPLICA
+    }
+
+    private final BooleanSupplier readFromMaster;
+
+    public ReadWriteRoutingDataSource(final DataSource master, final DataSource replica) {
+        this(master, replica, () -> false);
+    }
+
+    public ReadWriteRoutingDataSource(
+        final DataSource master,
+        final DataSource replica,
+        final BooleanSupplier readFromMaster
+    ) {
+        this.readFromMaster = Objects.requireNonNull(readFromMaster, "'readFromMaster' is required");
+        setTargetDataSources(Map.of(Route.MASTER, master, Route.REPLICA, replica));
+        setDefaultTargetDataSource(master);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readFromMaster.getAsBoolean()
+            ? Route.REPLICA
+            : Route.MASTER;
+    }
+}
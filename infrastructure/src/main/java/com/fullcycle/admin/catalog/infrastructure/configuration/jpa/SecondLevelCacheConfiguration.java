@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.jpa;
+
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+@Configuration
+public class SecondLevelCacheConfiguration {
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+        @Value("${category.cache.entities.maximum-size:10000}") final long entityMaximumSize,
+        @Value("${category.cache.entities.time-to-live:5m}") final Duration entityTimeToLive,
+        @Value("${category.cache.queries.maximum-size:1000}") final long queryMaximumSize,
+        @Value("${category.cache.queries.time-to-live:1m}") final Duration queryTimeToLive
+    ) {
+        // a provider of its own, so every application context gets fresh regions instead of a shared static registry
+        final CacheManager cacheManager = new CaffeineCachingProvider()
+            .getCacheManager(URI.create("hibernate"), getClass().getClassLoader(), new Properties());
+
+        // overlaps with the by-id cache in CachedCategoryGateway on purpose: that one sits above either gateway and
+        // is switched off by category.cache.enabled, while this region also serves the loads Hibernate makes on its
+        // own, such as update's pre-load, and is kept in step with JPA writes by READ_WRITE soft locks
+        cacheManager.createCache(
+            CategoryJpaEntity.CACHE_REGION,
+            regionOf(OptionalLong.of(entityMaximumSize), OptionalLong.of(entityTimeToLive.toNanos()))
+        );
+        cacheManager.createCache(
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            regionOf(OptionalLong.of(queryMaximumSize), OptionalLong.of(queryTimeToLive.toNanos()))
+        );
+        // one entry per table; evicting these would make cached query results look fresh
+        cacheManager.createCache(
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            regionOf(OptionalLong.empty(), OptionalLong.empty())
+        );
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(final CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionOf(
+        final OptionalLong maximumSize,
+        final OptionalLong expireAfterWriteNanos
+    ) {
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class SqlFunctionsMetadataContributor implements MetadataBuilderContributor {
+    public static final String COUNT_OVER = "count_over";
+    public static final String SEEK_AFTER = "seek_after";
+    public static final String SEEK_BEFORE = "seek_before";
+    public static final String BINARY_ORDER = "binary_order";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(COUNT_OVER, new SQLFunctionTemplate(StandardBasicTypes.LONG, "count(*) over()"));
+        // row-value comparisons, so (column, id) indexes can start the range scan at the cursor
+        metadataBuilder.applySqlFunction(SEEK_AFTER, new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "((?1, ?2) > (?3, ?4))"));
+        metadataBuilder.applySqlFunction(SEEK_BEFORE, new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "((?1, ?2) < (?3, ?4))"));
+        // PostgreSQL only, H2 has no per-expression collation and already compares strings by code unit
+        metadataBuilder.applySqlFunction(BINARY_ORDER, new SQLFunctionTemplate(StandardBasicTypes.STRING, "(?1 COLLATE \"C\")"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryPageCache;
+
+import java.util.Objects;
+
+class CachingListCategoriesUseCase extends ListCategoriesUseCase {
+    private final ListCategoriesUseCase useCase;
+    private final CategoryPageCache pageCache;
+
+    CachingListCategoriesUseCase(final ListCategoriesUseCase useCase, final CategoryPageCache pageCache) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.pageCache = Objects.requireNonNull(pageCache);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        return pageCache.get(query, useCase::execute);
+    }
+}
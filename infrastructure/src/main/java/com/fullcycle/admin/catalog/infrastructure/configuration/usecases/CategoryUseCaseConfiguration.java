@@ -1,9 +1,17 @@
 package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.DefaultImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
@@ -11,15 +19,32 @@ import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCatego
 import com.fullcycle.admin.catalog.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryHotKeys;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryPageCache;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class CategoryUseCaseConfiguration {
     private final CategoryGateway categoryGateway;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final CategoryPageCache pageCache;
+    private final CategoryHotKeys hotKeys;
 
-    public CategoryUseCaseConfiguration(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfiguration(
+        final CategoryGateway categoryGateway,
+        final PlatformTransactionManager transactionManager,
+        final ObjectProvider<CategoryPageCache> pageCache,
+        final ObjectProvider<CategoryHotKeys> hotKeys
+    ) {
         this.categoryGateway = categoryGateway;
+        this.pageCache = pageCache.getIfAvailable();
+        this.hotKeys = hotKeys.getIfAvailable();
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Bean
@@ -27,6 +52,16 @@ public class CategoryUseCaseConfiguration {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new DefaultImportCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -37,13 +72,38 @@ public class CategoryUseCaseConfiguration {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        final GetCategoryByIdUseCase useCase = new CoalescingGetCategoryByIdUseCase(new ReadOnlyGetCategoryByIdUseCase(
+            new DefaultGetCategoryByIdUseCase(categoryGateway),
+            readOnlyTransactionTemplate
+        ));
+
+        return hotKeys == null ? useCase : new RecordingGetCategoryByIdUseCase(useCase, hotKeys);
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        final ListCategoriesUseCase useCase = new CoalescingListCategoriesUseCase(new ReadOnlyListCategoriesUseCase(
+            new DefaultListCategoriesUseCase(categoryGateway),
+            readOnlyTransactionTemplate
+        ));
+
+        final ListCategoriesUseCase cached = pageCache == null ? useCase : new CachingListCategoriesUseCase(useCase, pageCache);
+
+        return hotKeys == null ? cached : new RecordingListCategoriesUseCase(cached, hotKeys);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new ReadOnlyExportCategoriesUseCase(
+            new DefaultExportCategoriesUseCase(categoryGateway),
+            readOnlyTransactionTemplate
+        );
     }
 }
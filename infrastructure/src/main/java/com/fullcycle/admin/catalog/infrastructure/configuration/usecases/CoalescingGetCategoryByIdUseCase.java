@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.infrastructure.utils.SingleFlight;
+
+import java.util.Objects;
+
+class CoalescingGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+    private final GetCategoryByIdUseCase useCase;
+    private final SingleFlight<String, CategoryOutput> singleFlight = new SingleFlight<>();
+
+    CoalescingGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase) {
+        this.useCase = Objects.requireNonNull(useCase);
+    }
+
+    @Override
+    public CategoryOutput execute(final String id) {
+        return singleFlight.execute(id, () -> useCase.execute(id));
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.utils.SingleFlight;
+
+import java.util.Objects;
+
+class CoalescingListCategoriesUseCase extends ListCategoriesUseCase {
+    private final ListCategoriesUseCase useCase;
+    private final SingleFlight<CategorySearchQuery, Pagination<CategoryListOutput>> singleFlight = new SingleFlight<>();
+
+    CoalescingListCategoriesUseCase(final ListCategoriesUseCase useCase) {
+        this.useCase = Objects.requireNonNull(useCase);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        return singleFlight.execute(query, () -> useCase.execute(query));
+    }
+}
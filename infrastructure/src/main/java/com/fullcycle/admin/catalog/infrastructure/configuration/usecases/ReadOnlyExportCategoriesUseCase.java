@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+class ReadOnlyExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private final ExportCategoriesUseCase useCase;
+    private final TransactionTemplate transactionTemplate;
+
+    ReadOnlyExportCategoriesUseCase(final ExportCategoriesUseCase useCase, final TransactionTemplate transactionTemplate) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    @Override
+    public Long execute(final Consumer<CategoryListOutput> consumer) {
+        return transactionTemplate.execute(status -> useCase.execute(consumer));
+    }
+}
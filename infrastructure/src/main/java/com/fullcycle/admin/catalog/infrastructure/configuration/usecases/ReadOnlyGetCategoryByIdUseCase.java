@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+class ReadOnlyGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+    private final GetCategoryByIdUseCase useCase;
+    private final TransactionTemplate transactionTemplate;
+
+    ReadOnlyGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase, final TransactionTemplate transactionTemplate) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    @Override
+    public CategoryOutput execute(final String id) {
+        return transactionTemplate.execute(status -> useCase.execute(id));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+class ReadOnlyListCategoriesUseCase extends ListCategoriesUseCase {
+    private final ListCategoriesUseCase useCase;
+    private final TransactionTemplate transactionTemplate;
+
+    ReadOnlyListCategoriesUseCase(final ListCategoriesUseCase useCase, final TransactionTemplate transactionTemplate) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        return transactionTemplate.execute(status -> useCase.execute(query));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryHotKeys;
+
+import java.util.Objects;
+
+class RecordingGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+    private final GetCategoryByIdUseCase useCase;
+    private final CategoryHotKeys hotKeys;
+
+    RecordingGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase, final CategoryHotKeys hotKeys) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.hotKeys = Objects.requireNonNull(hotKeys);
+    }
+
+    @Override
+    public CategoryOutput execute(final String id) {
+        final CategoryOutput output = useCase.execute(id);
+        hotKeys.recordCategory(id);
+        return output;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.category.CategoryHotKeys;
+
+import java.util.Objects;
+
+class RecordingListCategoriesUseCase extends ListCategoriesUseCase {
+    private final ListCategoriesUseCase useCase;
+    private final CategoryHotKeys hotKeys;
+
+    RecordingListCategoriesUseCase(final ListCategoriesUseCase useCase, final CategoryHotKeys hotKeys) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.hotKeys = Objects.requireNonNull(hotKeys);
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        final Pagination<CategoryListOutput> output = useCase.execute(query);
+        hotKeys.recordQuery(query);
+        return output;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class ETagUtils {
+    public static final long UNMATCHABLE_VERSION = -1L;
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+    private static final String SEPARATOR = ",";
+    private static final int WEAK_TAG_BYTES = 16;
+
+    private ETagUtils() {}
+
+    public static String of(final long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    public static String weakOf(final String fingerprint) {
+        final byte[] digest = sha256(fingerprint);
+        return WEAK_PREFIX + QUOTE
+            + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, WEAK_TAG_BYTES))
+            + QUOTE;
+    }
+
+    public static boolean matches(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+
+        final String opaqueTag = opaqueTagOf(eTag);
+        for (final String candidate : ifNoneMatch.split(SEPARATOR)) {
+            final String tag = candidate.trim();
+            if (ANY.equals(tag) || opaqueTagOf(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // only "*" allows any version; an empty header or a weak tag never passes the strong comparison If-Match needs
+    public static Long versionOf(final String ifMatch) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        final String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) {
+            return UNMATCHABLE_VERSION;
+        }
+
+        try {
+            final long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+            return version < 0 ? UNMATCHABLE_VERSION : version;
+        } catch (final NumberFormatException ex) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+    private static String opaqueTagOf(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static byte[] sha256(final String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -2,17 +2,56 @@ package com.fullcycle.admin.catalog.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Locale;
+
+import static com.fullcycle.admin.catalog.infrastructure.configuration.jpa.SqlFunctionsMetadataContributor.BINARY_ORDER;
+import static com.fullcycle.admin.catalog.infrastructure.configuration.jpa.SqlFunctionsMetadataContributor.SEEK_AFTER;
+import static com.fullcycle.admin.catalog.infrastructure.configuration.jpa.SqlFunctionsMetadataContributor.SEEK_BEFORE;
+
 public final class SpecificationUtils {
+    private static final char LIKE_ESCAPE = '\\';
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String property, final String term) {
         return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder.like(
             criteriaBuilder.upper(root.get(property)),
-            like(term.toUpperCase())
+            like(term.trim().toUpperCase(Locale.ROOT)),
+            LIKE_ESCAPE
         );
     }
 
     public static String like(final String term) {
-        return "%" + term + "%";
+        return "%" + escapeLike(term) + "%";
+    }
+
+    private static String escapeLike(final String term) {
+        final StringBuilder escaped = new StringBuilder(term.length());
+        for (final char character : term.toCharArray()) {
+            if (character == LIKE_ESCAPE || character == '%' || character == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(character);
+        }
+
+        return escaped.toString();
+    }
+
+    public static <T, V extends Comparable<? super V>, I extends Comparable<? super I>> Specification<T> seek(
+        final String property,
+        final V value,
+        final String idProperty,
+        final I id,
+        final boolean ascending,
+        final boolean byCodePoint
+    ) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder.isTrue(criteriaBuilder.function(
+            ascending ? SEEK_AFTER : SEEK_BEFORE,
+            Boolean.class,
+            byCodePoint ? criteriaBuilder.function(BINARY_ORDER, String.class, root.get(property)) : root.get(property),
+            root.get(idProperty),
+            criteriaBuilder.literal(value),
+            criteriaBuilder.literal(id)
+        ));
     }
 }
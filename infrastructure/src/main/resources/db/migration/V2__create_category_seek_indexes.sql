@@ -0,0 +1,3 @@
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
@@ -1,20 +1,32 @@
 package com.fullcycle.admin.catalog;
 
+import com.fullcycle.admin.catalog.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CatalogVersion;
+import org.hibernate.Cache;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Collection;
 
 public class CleanUpExtension implements BeforeEachCallback {
     @Override
     public void beforeEach(final ExtensionContext context) {
-        final Collection<CrudRepository> repositories = SpringExtension.getApplicationContext(context)
+        final ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        final Collection<CrudRepository> repositories = applicationContext
             .getBeansOfType(CrudRepository.class)
             .values();
 
         cleanUp(repositories);
+        applicationContext.getBeansOfType(CachedCategoryGateway.class).values()
+            .forEach(CachedCategoryGateway::invalidateAll);
+        applicationContext.getBeansOfType(CatalogVersion.class).values()
+            .forEach(CatalogVersion::increment);
+        applicationContext.getBeansOfType(EntityManagerFactory.class).values()
+            .forEach(entityManagerFactory -> entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions());
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalog;
 
-import org.springframework.context.annotation.ComponentScan;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
@@ -14,6 +16,7 @@ import static org.springframework.context.annotation.FilterType.REGEX;
 @Target(TYPE)
 @Retention(RUNTIME)
 @Inherited
-@PersistenceTest
-@ComponentScan(includeFilters = { @Filter(type = REGEX, pattern = ".[PostgreSQLGateway]") })
+@ActiveProfiles("integration-test")
+@DataJpaTest(includeFilters = { @Filter(type = REGEX, pattern = ".*PostgreSQLGateway") })
+@ExtendWith(CleanUpExtension.class)
 public @interface PostgreSQLGatewayTest {}
@@ -81,7 +81,7 @@ public class UpdateCategoryUseCaseIntegrationTest {
         assertEquals(expectedErrorMessage, notification.firstError().message());
         assertEquals(expectedErrorCount, notification.getErrors().size());
 
-        verify(gateway, times(0)).update(any());
+        verify(gateway, times(0)).updateIfExists(any());
     }
 
     @Test
@@ -123,7 +123,7 @@ public class UpdateCategoryUseCaseIntegrationTest {
             true
         );
 
-        doThrow(new IllegalStateException("Gateway error")).when(gateway).update(any());
+        doThrow(new IllegalStateException("Gateway error")).when(gateway).updateIfExists(any());
 
         final Notification notification = useCase.execute(command).getLeft();
 
@@ -137,7 +137,7 @@ public class UpdateCategoryUseCaseIntegrationTest {
         final CategoryID categoryID = CategoryID.unique();
         final String expectedErrorMessage = "Category with id " + categoryID + " not found";
         final int expectedErrorCount = 0;
-        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, null, null, false);
+        final UpdateCategoryCommand command = UpdateCategoryCommand.from(categoryID, "filme", null, false);
 
         final NotFoundException exception = assertThrows(NotFoundException.class, () -> useCase.execute(command));
 
@@ -145,6 +145,6 @@ public class UpdateCategoryUseCaseIntegrationTest {
         assertEquals(expectedErrorMessage, exception.getMessage());
         assertEquals(expectedErrorCount, exception.getErrors().size());
 
-        verify(gateway, times(0)).update(any());
+        verify(gateway, times(1)).updateIfExists(any());
     }
 }
@@ -8,15 +8,20 @@ import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategory
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static com.fullcycle.admin.catalog.infrastructure.configuration.json.Json.readValue;
 import static com.fullcycle.admin.catalog.infrastructure.configuration.json.Json.writeValueAsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -26,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -39,6 +45,12 @@ public class CategoryE2ETest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Container
     private static final PostgreSQLContainer CONTAINER = new PostgreSQLContainer("postgres:14.4")
         .withPassword("root")
@@ -139,15 +151,16 @@ public class CategoryE2ETest {
         createCategory("Sports", "Most popular sports in TV", true);
         createCategory("TV Shows", "Most popular TV Shows", true);
 
+        // descriptions sort by code point, so the upper case "TV" comes before any lower case letter
         listCategories(0, 3, "", "description", "desc")
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.current_page", equalTo(0)))
             .andExpect(jsonPath("$.per_page", equalTo(3)))
             .andExpect(jsonPath("$.total", equalTo(3)))
             .andExpect(jsonPath("$.items", hasSize(3)))
-            .andExpect(jsonPath("$.items[0].name", equalTo("TV Shows")))
-            .andExpect(jsonPath("$.items[1].name", equalTo("Sports")))
-            .andExpect(jsonPath("$.items[2].name", equalTo("Movies")));
+            .andExpect(jsonPath("$.items[0].name", equalTo("Sports")))
+            .andExpect(jsonPath("$.items[1].name", equalTo("Movies")))
+            .andExpect(jsonPath("$.items[2].name", equalTo("TV Shows")));
     }
 
     @Test
@@ -179,6 +192,7 @@ public class CategoryE2ETest {
         final UpdateCategoryRequest requestBody = new UpdateCategoryRequest("Movies", "Most popular movies", true);
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{id}", id.toString())
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON_VALUE)
             .accept(APPLICATION_JSON_VALUE)
             .content(writeValueAsString(requestBody));
@@ -208,6 +222,7 @@ public class CategoryE2ETest {
         final UpdateCategoryRequest requestBody = new UpdateCategoryRequest("Movies", "Most popular movies", true);
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{id}", id.toString())
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON_VALUE)
             .accept(APPLICATION_JSON_VALUE)
             .content(writeValueAsString(requestBody));
@@ -237,6 +252,7 @@ public class CategoryE2ETest {
         final UpdateCategoryRequest requestBody = new UpdateCategoryRequest("Movies", "Most popular movies", false);
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{id}", id.toString())
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON_VALUE)
             .accept(APPLICATION_JSON_VALUE)
             .content(writeValueAsString(requestBody));
@@ -308,6 +324,82 @@ public class CategoryE2ETest {
         assertFalse(categoryRepository.existsById(categoryId.getValue()));
     }
 
+    @Test
+    public void asACatalogAdminIShouldSeeChangesWrittenByAnotherNode() throws Exception {
+        assertTrue(CONTAINER.isRunning());
+        assertEquals(0, categoryRepository.count());
+
+        final CategoryID categoryId = createCategory("Movies", "Most popular movies", true);
+        assertEquals("Movies", retrieveCategory(categoryId).name());
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+            "UPDATE category SET name = ?, version = version + 1 WHERE id = ?",
+            "Films",
+            categoryId.getValue()
+        ));
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"Films".equals(retrieveCategory(categoryId).name()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals("Films", retrieveCategory(categoryId).name());
+    }
+
+    @Test
+    public void asACatalogAdminIShouldSeeATruncateDoneByAnotherNode() throws Exception {
+        assertTrue(CONTAINER.isRunning());
+        assertEquals(0, categoryRepository.count());
+
+        final CategoryID categoryId = createCategory("Movies", "Most popular movies", true);
+        assertEquals("Movies", retrieveCategory(categoryId).name());
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("TRUNCATE category"));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories/{categoryId}", categoryId.toString())
+            .accept(APPLICATION_JSON_VALUE);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mvc.perform(request).andReturn().getResponse().getStatus() != 404 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        mvc.perform(request).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void asACatalogAdminIShouldPageByCursorThroughAnIndexRangeScan() {
+        assertTrue(CONTAINER.isRunning());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("""
+                INSERT INTO category (id, name, description, is_active, created_at, updated_at)
+                SELECT gen_random_uuid(), 'category ' || n, NULL, true, now(), now()
+                FROM generate_series(1, 20000) n
+                """);
+            jdbcTemplate.execute("ANALYZE category");
+        });
+
+        try {
+            final String seek =
+                "(name COLLATE \"C\", id) > ('category 15000', '00000000-0000-0000-0000-000000000000'::uuid)";
+
+            // the JDBC gateway's condition, and the JPA gateway's seek_after() rendering
+            for (final String condition : List.of(seek, "(" + seek + ") = true")) {
+                final String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT id FROM category WHERE " + condition + " ORDER BY name COLLATE \"C\", id LIMIT 11",
+                    String.class
+                ));
+
+                assertTrue(plan.contains("idx_category_name_id"), plan);
+                assertTrue(plan.contains("Index Cond: (ROW("), plan);
+            }
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("DELETE FROM category"));
+        }
+    }
+
     private CategoryID createCategory(final String name, final String description, final boolean isActive) throws Exception {
         final CreateCategoryRequest requestBody = new CreateCategoryRequest(name, description, isActive);
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
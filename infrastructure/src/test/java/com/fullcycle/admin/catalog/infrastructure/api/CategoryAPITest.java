@@ -2,9 +2,17 @@ package com.fullcycle.admin.catalog.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalog.ControllerTest;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoryCommand;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesOutput;
+import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
@@ -13,43 +21,68 @@ import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryOut
 import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalog.domain.category.Category;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
 import com.fullcycle.admin.catalog.domain.validation.handler.Error;
 import com.fullcycle.admin.catalog.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalog.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalog.infrastructure.category.parser.CategoryImportParser;
+import com.fullcycle.admin.catalog.infrastructure.utils.ETagUtils;
 import io.vavr.API;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CategoryAPI.class)
@@ -63,6 +96,12 @@ public class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
@@ -72,9 +111,15 @@ public class CategoryAPITest {
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final CategoryID categoryId = CategoryID.unique();
@@ -176,6 +221,7 @@ public class CategoryAPITest {
             .andExpect(jsonPath("$.name").value("filme"))
             .andExpect(jsonPath("$.description").value("descrição"))
             .andExpect(jsonPath("$.is_active").value(true))
+            .andExpect(header().string(ETAG, "\"0\""))
             .andExpect(header().string(CONTENT_TYPE, APPLICATION_JSON_VALUE));
 
         verify(getCategoryByIdUseCase, times(1)).execute(eq(categoryId.toString()));
@@ -214,6 +260,7 @@ public class CategoryAPITest {
 
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON)
             .accept(APPLICATION_JSON)
             .content(mapper.writeValueAsString(input));
@@ -233,6 +280,132 @@ public class CategoryAPITest {
         }));
     }
 
+    @Test
+    public void givenAnIfMatchHeader_whenCallUpdateCategory_shouldForwardVersionAndReturnNewETag() throws Exception {
+        final Category category = Category.from(
+            CategoryID.unique(), "filme", "descrição", true, Instant.now(), Instant.now(), null, 4
+        );
+        final CategoryID categoryId = category.getId();
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenReturn(Right(UpdateCategoryOutput.from(category)));
+
+        final UpdateCategoryRequest input = new UpdateCategoryRequest("filme", "descrição", true);
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "\"3\"")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(4))
+            .andExpect(header().string(ETAG, "\"4\""));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(command -> {
+            assertEquals(3L, command.expectedVersion());
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+        final String expectedErrorMessage = "Category with id " + categoryId + " is not at version 3";
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenThrow(ConflictException.from(Category.class, categoryId.toString(), 3));
+
+        final UpdateCategoryRequest input = new UpdateCategoryRequest("filme", "descrição", true);
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "\"3\"")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value(expectedErrorMessage))
+            .andExpect(jsonPath("$.errors[0].message").value("'version' does not match the current version"));
+    }
+
+    @Test
+    public void givenNoIfMatchHeader_whenCallUpdateCategory_shouldReturnPreconditionRequired() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+        final UpdateCategoryRequest input = new UpdateCategoryRequest("filme", "descrição", true);
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .put("/categories/{categoryId}", categoryId)
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPreconditionRequired())
+            .andExpect(jsonPath("$.errors[0].message").value("'If-Match' header is required"));
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnEmptyIfMatchHeader_whenCallUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenThrow(ConflictException.from(Category.class, categoryId.toString(), ETagUtils.UNMATCHABLE_VERSION));
+
+        final UpdateCategoryRequest input = new UpdateCategoryRequest("filme", "descrição", true);
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(command -> {
+            assertEquals(ETagUtils.UNMATCHABLE_VERSION, command.expectedVersion());
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenAWeakIfMatchHeader_whenCallUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenThrow(ConflictException.from(Category.class, categoryId.toString(), ETagUtils.UNMATCHABLE_VERSION));
+
+        final UpdateCategoryRequest input = new UpdateCategoryRequest("filme", "descrição", true);
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "W/\"3\"")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(command -> {
+            assertEquals(ETagUtils.UNMATCHABLE_VERSION, command.expectedVersion());
+            return true;
+        }));
+    }
+
     @Test
     public void givenValidIdAndInvalidName_whenCallUpdateCategory_shouldNotUpdateAndReturnError() throws Exception {
         final Category category = Category.newCategory(null, "descrição", true);
@@ -246,6 +419,7 @@ public class CategoryAPITest {
 
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON)
             .accept(APPLICATION_JSON)
             .content(mapper.writeValueAsString(input));
@@ -277,6 +451,7 @@ public class CategoryAPITest {
 
         final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
             .put("/categories/{categoryId}", categoryId)
+            .header(IF_MATCH, "*")
             .contentType(APPLICATION_JSON)
             .accept(APPLICATION_JSON)
             .content(mapper.writeValueAsString(input));
@@ -350,4 +525,400 @@ public class CategoryAPITest {
             return true;
         }));
     }
+
+    @Test
+    public void givenACursor_whenCallListCategories_shouldForwardCursorAndReturnNextCursors() throws Exception {
+        final Category category = Category.newCategory("movies", "description", true);
+        final List<CategoryListOutput> items = List.of(CategoryListOutput.from(category));
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 1, 3, items, true, "next-cursor", "prev-cursor"));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories")
+            .queryParam("size", "1")
+            .queryParam("sort", "name")
+            .queryParam("order", "asc")
+            .queryParam("cursor", "current-cursor")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.has_next").value(true))
+            .andExpect(jsonPath("$.next_cursor").value("next-cursor"))
+            .andExpect(jsonPath("$.prev_cursor").value("prev-cursor"));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> {
+            assertEquals(query.perPage(), 1);
+            assertEquals(query.sort(), "name");
+            assertEquals(query.direction(), "asc");
+            assertEquals(query.cursor(), "current-cursor");
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenACountStrategy_whenCallListCategories_shouldForwardCountStrategy() throws Exception {
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of(), false, null, null));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories")
+            .queryParam("count", "none")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(-1))
+            .andExpect(jsonPath("$.has_next").value(false));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> {
+            assertEquals(query.count(), CountStrategy.NONE);
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenAnInvalidCountStrategy_whenCallListCategories_shouldReturnError() throws Exception {
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories")
+            .queryParam("count", "approximate")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message").value("'count' must be one of exact, estimated or none"));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenAFullTextSearchMode_whenCallListCategories_shouldForwardSearchMode() throws Exception {
+        when(listCategoriesUseCase.execute(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories")
+            .queryParam("search", "filmes terror")
+            .queryParam("search_mode", "full_text")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> {
+            assertEquals(query.terms(), "filmes terror");
+            assertEquals(query.mode(), SearchMode.FULL_TEXT);
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenAnInvalidSearchMode_whenCallListCategories_shouldReturnError() throws Exception {
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories")
+            .queryParam("search_mode", "fuzzy")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message").value("'search_mode' must be one of contains or full_text"));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategoriesInBatch_shouldReturnCreated() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+        final List<CreateCategoryRequest> input = List.of(new CreateCategoryRequest("filme", "descrição", null));
+
+        when(createCategoriesUseCase.execute(any()))
+            .thenReturn(CreateCategoriesOutput.from(List.of(CreateCategoryOutput.from(categoryId)), List.of()));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/batch")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.created[0].id").value(categoryId.toString()))
+            .andExpect(jsonPath("$.failures", hasSize(0)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(commands -> {
+            assertEquals(1, commands.size());
+            assertEquals("filme", commands.get(0).name());
+            assertEquals(true, commands.get(0).isActive());
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenSomeInvalidCommands_whenCallsCreateCategoriesInBatch_shouldReturnMultiStatus() throws Exception {
+        final CategoryID categoryId = CategoryID.unique();
+        final List<CreateCategoryRequest> input = List.of(
+            new CreateCategoryRequest("filme", "descrição", true),
+            new CreateCategoryRequest(null, "descrição", true)
+        );
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(CreateCategoriesOutput.from(
+            List.of(CreateCategoryOutput.from(categoryId)),
+            List.of(CreateCategoriesOutput.Failure.from(1, Notification.create(Error.of("'name' cannot be null"))))
+        ));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/batch")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.created[0].id").value(categoryId.toString()))
+            .andExpect(jsonPath("$.failures[0].index").value(1))
+            .andExpect(jsonPath("$.failures[0].notification.errors[0].message").value("'name' cannot be null"));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategoriesInBatch_shouldReturnUnprocessableEntity() throws Exception {
+        final List<CreateCategoryRequest> input = List.of(new CreateCategoryRequest(null, "descrição", true));
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(CreateCategoriesOutput.from(
+            List.of(),
+            List.of(CreateCategoriesOutput.Failure.from(0, Notification.create(Error.of("'name' cannot be null"))))
+        ));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/batch")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.failures[0].index").value(0));
+    }
+
+    @Test
+    public void givenABatchOverTheMaxSize_whenCallsCreateCategoriesInBatch_shouldReturnUnprocessableEntity() throws Exception {
+        final List<CreateCategoryRequest> input = Collections.nCopies(1001, new CreateCategoryRequest("filme", null, true));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/batch")
+            .contentType(APPLICATION_JSON)
+            .accept(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(input));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message")
+                .value("'categories' must have at most 1000 items, use POST /categories/import for larger loads"));
+
+        verify(createCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenIds_whenCallDeleteCategories_shouldReturnDeletedCount() throws Exception {
+        final CategoryID first = CategoryID.unique();
+        final CategoryID second = CategoryID.unique();
+
+        when(deleteCategoriesUseCase.execute(any())).thenReturn(DeleteCategoriesOutput.from(2));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.delete("/categories")
+            .queryParam("ids", first.toString(), second.toString())
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted").value(2));
+
+        verify(deleteCategoriesUseCase, times(1)).execute(argThat(command -> {
+            assertEquals(List.of(first.toString(), second.toString()), command.ids());
+            return true;
+        }));
+    }
+
+    @Test
+    public void givenNeitherIdsNorSearch_whenCallDeleteCategories_shouldReturnError() throws Exception {
+        when(deleteCategoriesUseCase.execute(any()))
+            .thenThrow(DomainException.from(Error.of("'ids' or 'search' must be informed")));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.delete("/categories")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message").value("'ids' or 'search' must be informed"));
+    }
+
+    @Test
+    public void givenCategories_whenCallExportCategories_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final Category movies = Category.newCategory("movies", "description", true);
+        final Category series = Category.newCategory("series", null, false);
+
+        when(exportCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final Consumer<CategoryListOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CategoryListOutput.from(movies));
+            consumer.accept(CategoryListOutput.from(series));
+            return 2L;
+        });
+
+        final MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(CONTENT_TYPE, APPLICATION_NDJSON_VALUE))
+            .andReturn();
+
+        final String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, lines.length);
+        for (final String line : lines) {
+            assertTrue(line.startsWith("{"), line);
+        }
+        assertEquals(movies.getId().toString(), mapper.readTree(lines[0]).get("id").asText());
+        assertEquals("movies", mapper.readTree(lines[0]).get("name").asText());
+        assertEquals(series.getId().toString(), mapper.readTree(lines[1]).get("id").asText());
+        assertFalse(mapper.readTree(lines[1]).get("is_active").asBoolean());
+    }
+
+    @Test
+    public void givenAnNdjsonUpload_whenCallImportCategories_shouldReturnImportedCount() throws Exception {
+        when(importCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final Iterator<ImportCategoryCommand> commands = invocation.getArgument(0);
+            final List<ImportCategoryCommand> parsed = new ArrayList<>();
+            commands.forEachRemaining(parsed::add);
+            assertEquals(ImportCategoryCommand.from(1, "filmes", null, true), parsed.get(0));
+            assertEquals(ImportCategoryCommand.from(2, "séries", "séries", false), parsed.get(1));
+            return ImportCategoriesOutput.from(parsed.size(), 0, List.of());
+        });
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/import")
+            .contentType(APPLICATION_NDJSON)
+            .accept(APPLICATION_JSON)
+            .content("""
+                {"name":"filmes"}
+                {"name":"séries","description":"séries","is_active":false}
+                """.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(0));
+
+        verify(importCategoriesUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenACsvUploadWithSomeInvalidLines_whenCallImportCategories_shouldReturnMultiStatus() throws Exception {
+        when(importCategoriesUseCase.execute(any())).thenReturn(ImportCategoriesOutput.from(
+            1,
+            1,
+            List.of(ImportCategoriesOutput.Failure.from(3, Notification.create(Error.of("'name' should not be empty"))))
+        ));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/import")
+            .contentType(CategoryImportParser.TEXT_CSV)
+            .accept(APPLICATION_JSON)
+            .content("name\nfilmes\n\"\"\n");
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failures[0].line").value(3))
+            .andExpect(jsonPath("$.failures[0].notification.errors[0].message").value("'name' should not be empty"));
+    }
+
+    @Test
+    public void givenACsvUploadWithoutNameColumn_whenCallImportCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders.post("/categories/import")
+            .contentType(CategoryImportParser.TEXT_CSV)
+            .accept(APPLICATION_JSON)
+            .content("description\nfilmes\n");
+
+        mockMvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0].message").value("'header' must contain a 'name' column"));
+
+        verify(importCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallGetCategory_shouldReturnNotModifiedWithoutBody() throws Exception {
+        final Category category = Category.newCategory("filme", "descrição", true);
+
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(category));
+
+        for (final String ifNoneMatch : List.of("\"0\"", "W/\"0\"", "\"7\", \"0\"", "*")) {
+            final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/categories/{categoryId}", category.getId())
+                .header(IF_NONE_MATCH, ifNoneMatch)
+                .accept(APPLICATION_JSON);
+
+            mockMvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"0\""))
+                .andExpect(content().string(""));
+        }
+    }
+
+    @Test
+    public void givenAStaleIfNoneMatch_whenCallGetCategory_shouldReturnTheCategory() throws Exception {
+        final Category category = Category.newCategory("filme", "descrição", true);
+
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(category));
+
+        final MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+            .get("/categories/{categoryId}", category.getId())
+            .header(IF_NONE_MATCH, "\"1\"")
+            .accept(APPLICATION_JSON);
+
+        mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andExpect(header().string(ETAG, "\"0\""))
+            .andExpect(jsonPath("$.name").value("filme"));
+    }
+
+    @Test
+    public void givenAnUnchangedPage_whenCallListCategoriesWithItsETag_shouldReturnNotModified() throws Exception {
+        final Category category = Category.newCategory("movies", "description", true);
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(category))));
+
+        final String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/categories").accept(APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ETAG, startsWith("W/\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/categories").header(IF_NONE_MATCH, eTag).accept(APPLICATION_JSON))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(ETAG, eTag))
+            .andExpect(content().string(""));
+
+        final Category replacement = Category.newCategory("films", "description", true);
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(replacement))));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/categories").header(IF_NONE_MATCH, eTag).accept(APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ETAG, not(eTag)))
+            .andExpect(jsonPath("$.items[0].name").value("films"));
+    }
 }
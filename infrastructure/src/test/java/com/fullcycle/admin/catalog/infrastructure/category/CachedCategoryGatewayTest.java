@@ -0,0 +1,196 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachedCategoryGatewayTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    private Cache<CategoryID, CategorySummary> cache;
+
+    private CachedCategoryGateway cachedGateway;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .ticker(ticker::get)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+        cachedGateway = new CachedCategoryGateway(categoryGateway, cache, catalogVersion);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallFindByIdAgain_shouldNotHitTheGateway() {
+        final Category category = Category.newCategory("filmes", "filmes", true);
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final Category first = cachedGateway.findById(category.getId()).orElseThrow();
+        final Category second = cachedGateway.findById(category.getId()).orElseThrow();
+
+        verify(categoryGateway, times(1)).findById(category.getId());
+        assertEquals(category.getId(), second.getId());
+        assertEquals(category.getName(), second.getName());
+        assertNotSame(first, second);
+
+        final CacheStats stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallFindById_shouldNotCacheTheAbsence() {
+        final CategoryID id = CategoryID.unique();
+        when(categoryGateway.findById(id)).thenReturn(Optional.empty());
+
+        assertTrue(cachedGateway.findById(id).isEmpty());
+        assertTrue(cachedGateway.findById(id).isEmpty());
+
+        verify(categoryGateway, times(2)).findById(id);
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallFindById_shouldReloadFromTheGateway() {
+        final Category category = Category.newCategory("filmes", "filmes", true);
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+
+        cachedGateway.findById(category.getId());
+        ticker.addAndGet(Duration.ofMinutes(5).plusSeconds(1).toNanos());
+        cachedGateway.findById(category.getId());
+
+        verify(categoryGateway, times(2)).findById(category.getId());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallUpdate_shouldInvalidateIt() {
+        final Category category = Category.newCategory("filmes", "filmes", true);
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+        when(categoryGateway.updateIfExists(any(), any(Long.class))).thenReturn(Optional.of(category));
+
+        cachedGateway.findById(category.getId());
+        cachedGateway.updateIfExists(category, 0);
+        cachedGateway.findById(category.getId());
+
+        verify(categoryGateway, times(2)).findById(category.getId());
+    }
+
+    @Test
+    public void givenAFailingUpdate_whenCallUpdate_shouldStillInvalidateTheEntry() {
+        final Category category = Category.newCategory("filmes", "filmes", true);
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+        when(categoryGateway.update(any())).thenThrow(new IllegalStateException("boom"));
+
+        cachedGateway.findById(category.getId());
+        assertThrows(IllegalStateException.class, () -> cachedGateway.update(category));
+
+        assertNull(cache.getIfPresent(category.getId()));
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallDeletes_shouldInvalidateThem() {
+        final Category first = Category.newCategory("filmes", null, true);
+        final Category second = Category.newCategory("series", null, true);
+        when(categoryGateway.findById(any())).thenAnswer(invocation ->
+            Optional.of(invocation.getArgument(0).equals(first.getId()) ? first : second));
+
+        cachedGateway.findById(first.getId());
+        cachedGateway.findById(second.getId());
+        assertEquals(2, cache.estimatedSize());
+
+        cachedGateway.deleteById(first.getId());
+        assertEquals(1, cache.estimatedSize());
+
+        cachedGateway.deleteAllById(List.of(second.getId()));
+        assertEquals(0, cache.estimatedSize());
+
+        cachedGateway.findById(first.getId());
+        cachedGateway.deleteAll(new CategorySearchQuery(0, 10, "filmes", "name", "asc"));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    public void givenAFullCache_whenLoadingMoreCategories_shouldEvictAndRecordIt() {
+        final Cache<CategoryID, CategorySummary> smallCache = Caffeine.newBuilder()
+            .maximumSize(10)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+        final CachedCategoryGateway gateway = new CachedCategoryGateway(categoryGateway, smallCache, new CatalogVersion());
+        when(categoryGateway.findById(any())).thenAnswer(invocation ->
+            Optional.of(Category.newCategory("filmes", null, true)));
+
+        for (int index = 0; index < 50; index++) {
+            gateway.findById(CategoryID.unique());
+        }
+        smallCache.cleanUp();
+
+        assertTrue(smallCache.estimatedSize() <= 10);
+        assertTrue(smallCache.stats().evictionCount() >= 40);
+    }
+
+    @Test
+    public void givenWrites_whenCallingTheGateway_shouldBumpTheCatalogVersionOncePerWrite() {
+        final Category category = Category.newCategory("filmes", null, true);
+        final long initialVersion = catalogVersion.current();
+
+        cachedGateway.create(category);
+        cachedGateway.createAll(List.of(category));
+        cachedGateway.importAll(List.of(category).iterator());
+        cachedGateway.update(category);
+        cachedGateway.updateIfExists(category);
+        cachedGateway.updateIfExists(category, 0);
+        cachedGateway.deleteById(category.getId());
+        cachedGateway.deleteAllById(List.of(category.getId()));
+        cachedGateway.deleteAll(new CategorySearchQuery(0, 10, "filmes", "name", "asc"));
+
+        assertEquals(initialVersion + 9, catalogVersion.current());
+    }
+
+    @Test
+    public void givenReads_whenCallingTheGateway_shouldNotBumpTheCatalogVersion() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final long initialVersion = catalogVersion.current();
+
+        cachedGateway.findById(CategoryID.unique());
+        cachedGateway.findAll(query);
+        cachedGateway.findAllSummaries(query);
+        cachedGateway.exportAll(summary -> {});
+
+        assertEquals(initialVersion, catalogVersion.current());
+    }
+}
@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryChangeListenerTest {
+    @Mock
+    private CachedCategoryGateway cachedCategoryGateway;
+
+    @Mock
+    private CategoryEntityCache entityCache;
+
+    @Mock
+    private CategoryReadModel readModel;
+
+    private CategoryChangeListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Test
+    public void givenChangedIds_whenCallOnChanges_shouldInvalidateOnlyThoseIds() {
+        final CategoryID first = CategoryID.unique();
+        final CategoryID second = CategoryID.unique();
+        listener = listenerOf(() -> { throw new SQLException("unused"); });
+
+        listener.onChanges(List.of(first.toString(), second.toString()));
+
+        verify(readModel).reload(List.of(first, second));
+        verify(entityCache).evict(List.of(first, second));
+        verify(cachedCategoryGateway).invalidate(List.of(first, second));
+        verify(cachedCategoryGateway, never()).invalidateAll();
+    }
+
+    @Test
+    public void givenABulkOrMalformedChange_whenCallOnChanges_shouldInvalidateEverything() {
+        listener = listenerOf(() -> { throw new SQLException("unused"); });
+
+        listener.onChanges(List.of(CategoryID.unique().toString(), CategoryChangeListener.ALL));
+        listener.onChanges(List.of("not-an-id"));
+
+        verify(readModel, times(2)).reload();
+        verify(entityCache, times(2)).evictAll();
+        verify(cachedCategoryGateway, times(2)).invalidateAll();
+        verify(cachedCategoryGateway, never()).invalidate(anyList());
+    }
+
+    @Test
+    public void givenALostConnection_whenListening_shouldReconnectAndKeepInvalidating() throws Exception {
+        final CategoryID id = CategoryID.unique();
+        final Connection dropped = listeningConnectionOf(notificationOf(id.toString()), true);
+        final Connection connection = listeningConnectionOf(null, false);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        listener = listenerOf(() -> switch (attempts.getAndIncrement()) {
+            case 0 -> throw new SQLException("connection refused");
+            case 1 -> dropped;
+            default -> connection;
+        });
+
+        listener.start();
+
+        assertTrue(listener.isRunning());
+        verify(cachedCategoryGateway, timeout(2000)).invalidate(List.of(id));
+        verify(dropped, timeout(2000)).close();
+        verify(cachedCategoryGateway, timeout(2000)).invalidateAll();
+        assertTrue(attempts.get() >= 3);
+
+        listener.stop();
+
+        assertFalse(listener.isRunning());
+        verify(connection, timeout(2000)).close();
+        verify(cachedCategoryGateway, times(1)).invalidateAll();
+    }
+
+    private CategoryChangeListener listenerOf(final CategoryChangeListener.Connector connector) {
+        return new CategoryChangeListener(
+            connector,
+            cachedCategoryGateway,
+            entityCache,
+            readModel,
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            true
+        );
+    }
+
+    private static Connection listeningConnectionOf(
+        final PGNotification notification,
+        final boolean dropAfterwards
+    ) throws SQLException {
+        final Connection connection = mock(Connection.class);
+        final Statement statement = mock(Statement.class);
+        final PGConnection pgConnection = mock(PGConnection.class);
+
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getNotifications(anyInt()))
+            .thenReturn(notification == null ? new PGNotification[0] : new PGNotification[] { notification })
+            .thenAnswer(invocation -> {
+                if (dropAfterwards) {
+                    throw new SQLException("connection reset");
+                }
+                LockSupport.parkNanos(5_000_000);
+                return new PGNotification[0];
+            });
+
+        return connection;
+    }
+
+    private static PGNotification notificationOf(final String payload) {
+        final PGNotification notification = mock(PGNotification.class);
+        lenient().when(notification.getName()).thenReturn(CategoryChangeListener.CHANNEL);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+}
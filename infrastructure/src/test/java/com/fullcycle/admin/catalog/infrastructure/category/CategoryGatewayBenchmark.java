@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.PostgreSQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+@Tag("benchmark")
+@PostgreSQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CategoryGatewayBenchmark {
+    private static final int SEED_SIZE = 1_000;
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @Autowired
+    private CategoryPostgreSQLGateway jpaGateway;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void compareJpaAndJdbcGateways() {
+        final CategoryJdbcGateway jdbcGateway = new CategoryJdbcGateway(jdbcTemplate, transactionTemplate);
+
+        System.out.printf("%-12s %-6s %14s %14s%n", "operation", "impl", "ops/s", "bytes/op");
+        run("jpa", jpaGateway);
+        run("jdbc", jdbcGateway);
+    }
+
+    private void run(final String implementation, final CategoryGateway gateway) {
+        final List<Category> categories = IntStream.range(0, SEED_SIZE)
+            .mapToObj(index -> Category.newCategory("category " + index, "description " + index, true))
+            .toList();
+        gateway.createAll(categories);
+
+        final CategorySearchQuery query =
+            new CategorySearchQuery(0, 20, "", "name", "asc", null, CountStrategy.EXACT, SearchMode.CONTAINS);
+
+        measure(implementation, "create", index ->
+            gateway.create(Category.newCategory("created " + index, null, true)));
+        measure(implementation, "findById", index ->
+            gateway.findById(randomOf(categories).getId()));
+        measure(implementation, "update", index ->
+            gateway.updateIfExists(randomOf(categories).update("updated " + index, null, true)));
+        measure(implementation, "findAll", index ->
+            gateway.findAllSummaries(query));
+
+        jdbcTemplate.getJdbcTemplate().execute("DELETE FROM category");
+    }
+
+    private void measure(final String implementation, final String operation, final IntConsumer action) {
+        for (int index = 0; index < WARMUP_ITERATIONS; index++) {
+            action.accept(index);
+        }
+
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        final long startedAt = System.nanoTime();
+        for (int index = 0; index < MEASURED_ITERATIONS; index++) {
+            action.accept(WARMUP_ITERATIONS + index);
+        }
+        final long elapsed = System.nanoTime() - startedAt;
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf(
+            "%-12s %-6s %14.0f %14d%n",
+            operation,
+            implementation,
+            MEASURED_ITERATIONS / (elapsed / 1_000_000_000.0),
+            allocated / MEASURED_ITERATIONS
+        );
+    }
+
+    private static Category randomOf(final List<Category> categories) {
+        return categories.get(ThreadLocalRandom.current().nextInt(categories.size()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CategoryHotKeysTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenRecordedAccesses_whenCallSnapshot_shouldReturnTheHottestKeysFirst() {
+        final CategoryHotKeys hotKeys = new CategoryHotKeys(100);
+        final CategorySearchQuery byName = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final CategorySearchQuery byDate = new CategorySearchQuery(0, 10, "", "createdAt", "desc");
+
+        hotKeys.recordCategory("a");
+        hotKeys.recordCategory("b");
+        hotKeys.recordCategory("b");
+        hotKeys.recordCategory("c");
+        hotKeys.recordCategory("b");
+        hotKeys.recordCategory("c");
+        hotKeys.recordQuery(byName);
+        hotKeys.recordQuery(byDate);
+        hotKeys.recordQuery(byDate);
+
+        final CategoryHotKeys.Snapshot snapshot = hotKeys.snapshot(2, 10);
+
+        assertEquals(List.of("b", "c"), snapshot.categories());
+        assertEquals(List.of(byDate, byName), snapshot.queries().stream().map(CategoryHotKeys.Query::toSearchQuery).toList());
+    }
+
+    @Test
+    public void givenDeepOrCursorPages_whenCallRecordQuery_shouldNotTrackThem() {
+        final CategoryHotKeys hotKeys = new CategoryHotKeys(100);
+
+        hotKeys.recordQuery(new CategorySearchQuery(3, 10, "", "name", "asc"));
+        hotKeys.recordQuery(new CategorySearchQuery(0, 10, "", "name", "asc", "cursor"));
+
+        assertTrue(hotKeys.snapshot(10, 10).queries().isEmpty());
+    }
+
+    @Test
+    public void givenTheTrackingLimit_whenRecordingNewKeys_shouldOnlyCountKnownOnes() {
+        final CategoryHotKeys hotKeys = new CategoryHotKeys(2);
+
+        hotKeys.recordCategory("a");
+        hotKeys.recordCategory("b");
+        hotKeys.recordCategory("c");
+        hotKeys.recordCategory("a");
+
+        assertEquals(List.of("a", "b"), hotKeys.snapshot(10, 10).categories());
+
+        hotKeys.clear();
+
+        assertTrue(hotKeys.snapshot(10, 10).categories().isEmpty());
+    }
+
+    @Test
+    public void givenASavedSnapshot_whenCallLoad_shouldReadTheSameKeys() throws Exception {
+        final Path file = directory.resolve("warm-up").resolve("category-hot-keys.json");
+        final CategoryHotKeys.Snapshot expected = new CategoryHotKeys.Snapshot(
+            List.of("a", "b"),
+            List.of(CategoryHotKeys.Query.from(
+                new CategorySearchQuery(0, 25, "movies", "name", "desc", null, CountStrategy.ESTIMATED, SearchMode.FULL_TEXT)
+            ))
+        );
+
+        assertEquals(CategoryHotKeys.Snapshot.EMPTY, CategoryHotKeys.Snapshot.load(file));
+
+        expected.save(file);
+        expected.save(file);
+
+        assertEquals(expected, CategoryHotKeys.Snapshot.load(file));
+    }
+}
@@ -0,0 +1,167 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import(CategoryJdbcGateway.class)
+@TestPropertySource(properties = "category.gateway=jdbc")
+public class CategoryJdbcGatewayTest extends CategoryPostgreSQLGatewayTest {
+    @Test
+    @Override
+    public void givenAValidCategory_whenCallCreate_shouldReturnNewCategory() {
+        final Category category = Category.newCategory("filmes", "filmes", true);
+
+        final Category createdCategory = categoryGateway.create(category);
+
+        assertEquals(category.getId(), createdCategory.getId());
+        assertEquals(1, categoryRepository.count());
+
+        final CategoryJpaEntity foundCategory = categoryRepository.findById(category.getId().getValue()).orElseThrow();
+
+        assertEquals(category.getName(), foundCategory.getName());
+        assertEquals(category.getDescription(), foundCategory.getDescription());
+        assertEquals(category.isActive(), foundCategory.isActive());
+        assertSameMillis(category.getCreatedAt(), foundCategory.getCreatedAt());
+        assertSameMillis(category.getUpdatedAt(), foundCategory.getUpdatedAt());
+        assertEquals(category.getDeletedAt(), foundCategory.getDeletedAt());
+        assertEquals(0, foundCategory.getVersion());
+    }
+
+    @Test
+    @Override
+    public void givenAPersistedCategoryAndAValidCategoryID_whenCallFindById_shouldReturnCategory() {
+        final Category category = Category.newCategory("filme", "filme", false);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Category foundCategory = categoryGateway.findById(category.getId()).orElseThrow();
+
+        assertEquals(category.getId(), foundCategory.getId());
+        assertEquals(category.getName(), foundCategory.getName());
+        assertEquals(category.getDescription(), foundCategory.getDescription());
+        assertFalse(foundCategory.isActive());
+        assertSameMillis(category.getCreatedAt(), foundCategory.getCreatedAt());
+        assertSameMillis(category.getUpdatedAt(), foundCategory.getUpdatedAt());
+        assertSameMillis(category.getDeletedAt(), foundCategory.getDeletedAt());
+    }
+
+    @Test
+    @Override
+    public void givenAValidCategory_whenCallUpdate_shouldReturnUpdatedCategory() {
+        final Category category = Category.newCategory("film", "", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        entityManager.clear();
+
+        final Category updatedCategory = categoryGateway.update(category.update("filmes", "filmes", true));
+
+        assertEquals("filmes", updatedCategory.getName());
+        assertEquals(1, updatedCategory.getVersion());
+        assertTrue(category.getUpdatedAt().isBefore(updatedCategory.getUpdatedAt()));
+
+        final CategoryJpaEntity foundCategory = categoryRepository.findById(category.getId().getValue()).orElseThrow();
+
+        assertEquals("filmes", foundCategory.getName());
+        assertEquals("filmes", foundCategory.getDescription());
+        assertEquals(1, foundCategory.getVersion());
+        assertSameMillis(category.getCreatedAt(), foundCategory.getCreatedAt());
+    }
+
+    @Test
+    @Override
+    public void givenAPersistedCategory_whenCallDelete_shouldDeleteCategory() {
+        final Category category = Category.newCategory("filme", "filme", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        entityManager.clear();
+
+        assertEquals(1, categoryGateway.deleteById(category.getId()));
+
+        assertTrue(categoryRepository.findById(category.getId().getValue()).isEmpty());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    @Override
+    public void givenAValidCategory_whenCallCreate_shouldIssueASingleInsertStatement() {
+        entityManager.flush();
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        categoryGateway.create(Category.newCategory("filmes", "filmes", true));
+        entityManager.flush();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    @Override
+    public void givenAPersistedCategory_whenCallDelete_shouldIssueASingleDeleteStatement() {
+        final Category category = Category.newCategory("filme", "filme", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        entityManager.clear();
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        assertEquals(1, categoryGateway.deleteById(category.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertEquals(0, categoryGateway.deleteById(category.getId()));
+    }
+
+    @Test
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenASavedCategory_whenCallFindByIdRepeatedly_shouldServeItFromTheSecondLevelCache() {
+        final Category category = Category.newCategory("filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        assertTrue(categoryGateway.findById(category.getId()).isPresent());
+        assertTrue(categoryGateway.findById(category.getId()).isPresent());
+
+        assertEquals(0, statistics.getDomainDataRegionStatistics(CategoryJpaEntity.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenARepeatedListing_whenCallFindAll_shouldUseTheQueryCacheUntilCategoriesAreInserted() {
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("filmes", null, true)));
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        assertEquals(1, categoryGateway.findAll(query).total());
+        assertEquals(1, categoryGateway.findAll(query).total());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+
+        categoryGateway.createAll(List.of(Category.newCategory("séries", null, true)));
+
+        assertEquals(2, categoryGateway.findAll(query).total());
+    }
+
+    private static void assertSameMillis(final Instant expected, final Instant actual) {
+        assertEquals(expected.toEpochMilli(), actual.toEpochMilli());
+    }
+}
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CategoryJsonCacheTest {
+    private final CategoryJsonCache jsonCache = new CategoryJsonCache(Caffeine.newBuilder().maximumSize(100).build());
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private final Function<CategoryOutput, byte[]> renderer = output -> {
+        renders.incrementAndGet();
+        return output.name().getBytes(StandardCharsets.UTF_8);
+    };
+
+    @Test
+    public void givenAnUnchangedCategory_whenCallGetAgain_shouldReuseTheRenderedBytes() {
+        final Category category = Category.newCategory("filmes", null, true);
+
+        final byte[] first = jsonCache.get(CategoryOutput.from(category), renderer);
+        final byte[] second = jsonCache.get(CategoryOutput.from(category), renderer);
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallGet_shouldRenderItAgain() throws Exception {
+        final Category category = Category.newCategory("filmes", null, true);
+        final byte[] first = jsonCache.get(CategoryOutput.from(category), renderer);
+
+        Thread.sleep(1);
+        final Category updated = category.update("séries", null, true);
+        final byte[] second = jsonCache.get(CategoryOutput.from(updated), renderer);
+
+        assertNotSame(first, second);
+        assertEquals("séries", new String(second, StandardCharsets.UTF_8));
+        assertEquals(2, renders.get());
+    }
+}
@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CategoryPageCacheTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+    private static final Duration STALE_WHILE_REVALIDATE = Duration.ofSeconds(10);
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private boolean saturated;
+
+    private final CategoryPageCache pageCache = new CategoryPageCache(
+        Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(TIME_TO_LIVE.plus(STALE_WHILE_REVALIDATE))
+            .ticker(ticker::get)
+            .executor(Runnable::run)
+            .build(),
+        catalogVersion,
+        TIME_TO_LIVE,
+        task -> {
+            if (saturated) {
+                throw new RejectedExecutionException("saturated");
+            }
+            refreshes.add(task);
+        },
+        ticker::get
+    );
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void givenAnEqualQuery_whenCallGetTwice_shouldReturnTheSameMappedPageWithoutReloading() {
+        final Pagination<CategoryListOutput> first = pageCache.get(query("filmes"), this::load);
+        final Pagination<CategoryListOutput> second = pageCache.get(query("filmes"), this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenDifferentQueries_whenCallGet_shouldCacheThemSeparately() {
+        pageCache.get(query("filmes"), this::load);
+        pageCache.get(query("séries"), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenABumpedCatalogVersion_whenCallGet_shouldReloadThePage() {
+        final Pagination<CategoryListOutput> first = pageCache.get(query("filmes"), this::load);
+
+        catalogVersion.increment();
+        final Pagination<CategoryListOutput> second = pageCache.get(query("filmes"), this::load);
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenAnExpiredPage_whenCallGet_shouldServeItStaleAndRefreshItOnceInTheBackground() {
+        final Pagination<CategoryListOutput> stale = pageCache.get(query("filmes"), this::load);
+        advance(TIME_TO_LIVE.plusSeconds(1));
+
+        assertSame(stale, pageCache.get(query("filmes"), this::load));
+        assertSame(stale, pageCache.get(query("filmes"), this::load));
+        assertEquals(1, loads.get());
+        assertEquals(1, refreshes.size());
+
+        refreshes.remove(0).run();
+        final Pagination<CategoryListOutput> fresh = pageCache.get(query("filmes"), this::load);
+
+        assertNotSame(stale, fresh);
+        assertSame(fresh, pageCache.get(query("filmes"), this::load));
+        assertEquals(2, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    public void givenAPagePastTheStalenessLimit_whenCallGet_shouldReloadItSynchronously() {
+        final Pagination<CategoryListOutput> first = pageCache.get(query("filmes"), this::load);
+        advance(TIME_TO_LIVE.plus(STALE_WHILE_REVALIDATE));
+
+        final Pagination<CategoryListOutput> second = pageCache.get(query("filmes"), this::load);
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    public void givenASaturatedRefreshPool_whenCallGet_shouldKeepServingTheStalePageAndRetryLater() {
+        final Pagination<CategoryListOutput> stale = pageCache.get(query("filmes"), this::load);
+        advance(TIME_TO_LIVE.plusSeconds(1));
+
+        saturated = true;
+        assertSame(stale, pageCache.get(query("filmes"), this::load));
+        assertTrue(refreshes.isEmpty());
+
+        saturated = false;
+        assertSame(stale, pageCache.get(query("filmes"), this::load));
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    public void givenAFailedRefresh_whenCallGet_shouldKeepTheStalePageAndRetryLater() {
+        final Pagination<CategoryListOutput> stale = pageCache.get(query("filmes"), this::load);
+        advance(TIME_TO_LIVE.plusSeconds(1));
+
+        pageCache.get(query("filmes"), query -> { throw new IllegalStateException("database is down"); });
+        refreshes.remove(0).run();
+
+        assertSame(stale, pageCache.get(query("filmes"), this::load));
+        assertEquals(1, refreshes.size());
+    }
+
+    private void advance(final Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    private Pagination<CategoryListOutput> load(final CategorySearchQuery query) {
+        loads.incrementAndGet();
+        return new Pagination<>(
+            query.page(),
+            query.perPage(),
+            1,
+            List.of(CategoryListOutput.from(Category.newCategory(query.terms(), null, true)))
+        );
+    }
+
+    private static CategorySearchQuery query(final String terms) {
+        return new CategorySearchQuery(0, 10, terms, "name", "asc");
+    }
+}
@@ -1,30 +1,51 @@
 package com.fullcycle.admin.catalog.infrastructure.category;
 
 import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalog.domain.category.CategoryID;
 import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
 import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
 import com.fullcycle.admin.catalog.PostgreSQLGatewayTest;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @PostgreSQLGatewayTest
 public class CategoryPostgreSQLGatewayTest {
     @Autowired
-    private CategoryPostgreSQLGateway categoryGateway;
+    protected CategoryGateway categoryGateway;
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    protected CategoryRepository categoryRepository;
+
+    @Autowired
+    protected EntityManager entityManager;
 
     @Test
     public void givenAValidCategory_whenCallCreate_shouldReturnNewCategory() {
@@ -285,4 +306,650 @@ public class CategoryPostgreSQLGatewayTest {
         assertEquals(categoriesPagination.items().size(), categoriesPagination.perPage());
         assertEquals(movies.getId(), categoriesPagination.items().get(0).getId());
     }
+
+    @Test
+    public void givenPersistedCategoriesAndAWildcardAsTerm_whenCallFindAll_shouldMatchTheWildcardLiterally() {
+        final Category discount = Category.newCategory("Descontos", "100% gratuitos", true);
+        final Category movies = Category.newCategory("Filmes", "filmes mais assistidos", true);
+        final Category series = Category.newCategory("Series_Originais", "series", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(discount),
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series)
+        ));
+
+        final Pagination<Category> byPercent = categoryGateway.findAll(new CategorySearchQuery(0, 10, "%", "name", "asc"));
+
+        assertEquals(1, byPercent.total());
+        assertEquals(discount.getId(), byPercent.items().get(0).getId());
+
+        final Pagination<Category> byUnderscore = categoryGateway.findAll(
+            new CategorySearchQuery(0, 10, " s_o ", "name", "asc")
+        );
+
+        assertEquals(1, byUnderscore.total());
+        assertEquals(series.getId(), byUnderscore.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAPageBeyondTheLastOne_whenCallFindAll_shouldStillReturnTotal() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("filme", "filme", true)),
+            CategoryJpaEntity.from(Category.newCategory("series", "series", true))
+        ));
+
+        final Pagination<Category> categoriesPagination = categoryGateway.findAll(
+            new CategorySearchQuery(5, 2, "", "name", "asc")
+        );
+
+        assertEquals(2, categoriesPagination.total());
+        assertTrue(categoriesPagination.items().isEmpty());
+        assertFalse(categoriesPagination.hasNext());
+    }
+
+    @Test
+    public void givenNoneCountStrategy_whenCallFindAll_shouldSkipTotalAndReturnHasNext() {
+        final Category movies = Category.newCategory("filme", "filme", true);
+        final Category series = Category.newCategory("series", "series", true);
+        final Category cartoon = Category.newCategory("desenho", "desenho", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 2, "", "name", "asc", null, CountStrategy.NONE)
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        assertEquals(2, firstPage.items().size());
+        assertTrue(firstPage.hasNext());
+
+        final Pagination<Category> lastPage = categoryGateway.findAll(
+            new CategorySearchQuery(1, 2, "", "name", "asc", null, CountStrategy.NONE)
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, lastPage.total());
+        assertEquals(1, lastPage.items().size());
+        assertEquals(series.getId(), lastPage.items().get(0).getId());
+        assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    public void givenEstimatedCountStrategyWithoutStatistics_whenCallFindAll_shouldFallBackToExactTotal() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("filme", "filme", true)),
+            CategoryJpaEntity.from(Category.newCategory("series", "series", true)),
+            CategoryJpaEntity.from(Category.newCategory("desenho", "desenho", true))
+        ));
+
+        final Pagination<Category> categoriesPagination = categoryGateway.findAll(
+            new CategorySearchQuery(0, 2, "", "name", "asc", null, CountStrategy.ESTIMATED)
+        );
+
+        assertEquals(3, categoriesPagination.total());
+        assertEquals(2, categoriesPagination.items().size());
+        assertTrue(categoriesPagination.hasNext());
+    }
+
+    @Test
+    public void givenFollowCursors_whenCallFindAllByCursor_shouldSeekThroughCategories() {
+        assertEquals(0, categoryRepository.count());
+
+        final Category movies = Category.newCategory("filme", "filme", true);
+        final Category series = Category.newCategory("series", "series", true);
+        final Category cartoon = Category.newCategory("desenho", "desenho", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        assertEquals(3, firstPage.total());
+        assertEquals(cartoon.getId(), firstPage.items().get(0).getId());
+        assertNotNull(firstPage.nextCursor());
+        assertNull(firstPage.prevCursor());
+
+        final Pagination<Category> secondPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor())
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+        assertEquals(movies.getId(), secondPage.items().get(0).getId());
+        assertNotNull(secondPage.nextCursor());
+        assertNotNull(secondPage.prevCursor());
+
+        final Pagination<Category> thirdPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", secondPage.nextCursor())
+        );
+
+        assertEquals(series.getId(), thirdPage.items().get(0).getId());
+        assertNull(thirdPage.nextCursor());
+        assertNotNull(thirdPage.prevCursor());
+
+        final Pagination<Category> previousPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", thirdPage.prevCursor())
+        );
+
+        assertEquals(movies.getId(), previousPage.items().get(0).getId());
+        assertNotNull(previousPage.nextCursor());
+        assertNotNull(previousPage.prevCursor());
+
+        final Pagination<Category> firstPageAgain = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", previousPage.prevCursor())
+        );
+
+        assertEquals(cartoon.getId(), firstPageAgain.items().get(0).getId());
+        assertNull(firstPageAgain.prevCursor());
+
+        final Pagination<Category> countedPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor(), CountStrategy.EXACT)
+        );
+
+        assertEquals(3, countedPage.total());
+        assertEquals(movies.getId(), countedPage.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPersistedCategoriesAndDescendingOrder_whenCallFindAllByCursor_shouldSeekThroughCategories() {
+        assertEquals(0, categoryRepository.count());
+
+        final Category movies = Category.newCategory("filme", "filme", true);
+        final Category series = Category.newCategory("series", "series", true);
+        final Category cartoon = Category.newCategory("desenho", "desenho", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 2, "", "name", "desc"));
+
+        assertEquals(2, firstPage.items().size());
+        assertEquals(series.getId(), firstPage.items().get(0).getId());
+        assertEquals(movies.getId(), firstPage.items().get(1).getId());
+
+        final Pagination<Category> secondPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 2, "", "name", "desc", firstPage.nextCursor())
+        );
+
+        assertEquals(1, secondPage.items().size());
+        assertEquals(cartoon.getId(), secondPage.items().get(0).getId());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    public void givenACursorForAnotherSort_whenCallFindAllByCursor_shouldThrowDomainException() {
+        final Category movies = Category.newCategory("filme", "filme", true);
+        final Category series = Category.newCategory("series", "series", true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+        final CategorySearchQuery query = new CategorySearchQuery(0, 1, "", "createdAt", "asc", firstPage.nextCursor());
+
+        final DomainException exception = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals("'cursor' does not match the requested sort and order", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAMalformedCursor_whenCallFindAllByCursor_shouldThrowDomainException() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        final DomainException exception = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals("'cursor' is invalid", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenFullTextSearchMode_whenCallFindAll_shouldMatchEveryWordInAnyOrder() {
+        final Category movies = Category.newCategory("Filmes", "categoria mais assistida", true);
+        final Category series = Category.newCategory("Series", "categoria menos assistida", true);
+        final Category cartoon = Category.newCategory("Desenhos", "mais vistos", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final Pagination<Category> actualPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 10, "assistida  mais", "name", "asc", null, CountStrategy.EXACT, SearchMode.FULL_TEXT)
+        );
+
+        assertEquals(1, actualPage.total());
+        assertEquals(movies.getId(), actualPage.items().get(0).getId());
+        assertNull(actualPage.nextCursor());
+        assertNull(actualPage.prevCursor());
+    }
+
+    @Test
+    public void givenFullTextSearchModeAndACursor_whenCallFindAll_shouldThrowDomainException() {
+        final CategorySearchQuery query = new CategorySearchQuery(
+            0, 1, "filmes", "name", "asc", "not-a-cursor", CountStrategy.EXACT, SearchMode.FULL_TEXT
+        );
+
+        final DomainException exception = assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals("'cursor' is not supported by full-text search", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallFindAllSummaries_shouldProjectColumnsWithoutManagingEntities() {
+        final Category movies = Category.newCategory("Filmes", "filmes", true);
+        final Category series = Category.newCategory("Series", null, false);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+        entityManager.clear();
+
+        final Pagination<CategorySummary> actualPage = categoryGateway.findAllSummaries(
+            new CategorySearchQuery(0, 10, "", "name", "asc")
+        );
+
+        assertEquals(2, actualPage.total());
+        assertEquals(movies.getId(), actualPage.items().get(0).id());
+        assertEquals(movies.getDescription(), actualPage.items().get(0).description());
+        assertEquals(series.getId(), actualPage.items().get(1).id());
+        assertNull(actualPage.items().get(1).description());
+        assertFalse(actualPage.items().get(1).isActive());
+        assertNotNull(actualPage.items().get(1).deletedAt());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallCreate_shouldIssueASingleInsertStatement() {
+        entityManager.flush();
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        categoryGateway.create(Category.newCategory("filmes", "filmes", true));
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallUpdate_shouldStillMergeTheExistingRow() {
+        final Category category = Category.newCategory("filmes", null, true);
+        categoryGateway.create(category);
+        entityManager.flush();
+        entityManager.clear();
+
+        categoryGateway.update(Category.from(
+            category.getId(),
+            "Filmes",
+            "A categoria mais assistida",
+            false,
+            category.getCreatedAt(),
+            Instant.now(),
+            Instant.now()
+        ));
+        entityManager.flush();
+
+        assertEquals(1, categoryRepository.count());
+        assertEquals("Filmes", categoryRepository.findById(category.getId().getValue()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallUpdate_shouldThrowNotFoundInsteadOfInserting() {
+        final Category category = Category.newCategory("filmes", null, true);
+        final String expectedErrorMessage = "Category with id %s not found".formatted(category.getId());
+
+        final NotFoundException actualException = assertThrows(
+            NotFoundException.class,
+            () -> categoryGateway.update(category.update("séries", null, true))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenValidCategories_whenCallCreateAll_shouldInsertThemInASingleBatch() {
+        final Category movies = Category.newCategory("filmes", "filmes", true);
+        final Category series = Category.newCategory("series", null, false);
+
+        final List<Category> createdCategories = categoryGateway.createAll(List.of(movies, series));
+
+        assertEquals(2, createdCategories.size());
+        assertEquals(2, categoryRepository.count());
+
+        final CategoryJpaEntity persistedSeries = categoryRepository.findById(series.getId().getValue()).orElseThrow();
+        assertEquals(series.getName(), persistedSeries.getName());
+        assertNull(persistedSeries.getDescription());
+        assertFalse(persistedSeries.isActive());
+        assertEquals(series.getCreatedAt().toEpochMilli(), persistedSeries.getCreatedAt().toEpochMilli());
+        assertEquals(series.getDeletedAt().toEpochMilli(), persistedSeries.getDeletedAt().toEpochMilli());
+    }
+
+    @Test
+    public void givenNoCategories_whenCallCreateAll_shouldReturnEmptyList() {
+        assertTrue(categoryGateway.createAll(List.of()).isEmpty());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallDelete_shouldIssueASingleDeleteStatement() {
+        final Category category = Category.newCategory("filme", "filme", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        assertEquals(1, categoryGateway.deleteById(category.getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertEquals(0, categoryGateway.deleteById(category.getId()));
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallDeleteAllById_shouldDeleteOnlyTheInformedOnes() {
+        final Category movies = Category.newCategory("filmes", "filmes", true);
+        final Category series = Category.newCategory("series", "series", true);
+        final Category cartoon = Category.newCategory("desenhos", "desenhos", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final long deleted = categoryGateway.deleteAllById(List.of(movies.getId(), cartoon.getId(), CategoryID.unique()));
+
+        assertEquals(2, deleted);
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(series.getId().getValue()));
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallDeleteAllBySearch_shouldDeleteOnlyMatchingOnes() {
+        final Category movies = Category.newCategory("Filmes", "categoria mais assistida", true);
+        final Category series = Category.newCategory("Series", "categoria menos assistida", true);
+        final Category cartoon = Category.newCategory("Desenhos", "desenhos", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(movies),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(cartoon)
+        ));
+
+        final long deleted = categoryGateway.deleteAll(new CategorySearchQuery(0, 0, "assistida", "name", "asc"));
+
+        assertEquals(2, deleted);
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(cartoon.getId().getValue()));
+    }
+
+    @Test
+    public void givenNoSearchTerms_whenCallDeleteAllBySearch_shouldThrowDomainException() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 0, " ", "name", "asc");
+
+        final DomainException exception = assertThrows(DomainException.class, () -> categoryGateway.deleteAll(query));
+
+        assertEquals("'search' is required to delete categories by filter", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallUpdateIfExists_shouldUpdateAndReturnTheStoredRow() {
+        final Category category = Category.newCategory("film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        final Instant now = Instant.now();
+        final Category updatedCategory = categoryGateway.updateIfExists(
+            Category.from(category.getId(), "filmes", "filmes", false, now, now, now)
+        ).orElseThrow();
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(category.getId(), updatedCategory.getId());
+        assertEquals("filmes", updatedCategory.getName());
+        assertEquals("filmes", updatedCategory.getDescription());
+        assertFalse(updatedCategory.isActive());
+        assertEquals(category.getCreatedAt().toEpochMilli(), updatedCategory.getCreatedAt().toEpochMilli());
+        assertEquals(now.toEpochMilli(), updatedCategory.getUpdatedAt().toEpochMilli());
+        assertEquals(now.toEpochMilli(), updatedCategory.getDeletedAt().toEpochMilli());
+
+        entityManager.clear();
+        final CategoryJpaEntity foundCategory = categoryRepository.findById(category.getId().getValue()).orElseThrow();
+
+        assertEquals("filmes", foundCategory.getName());
+        assertFalse(foundCategory.isActive());
+    }
+
+    @Test
+    public void givenAnInactiveCategory_whenCallUpdateIfExistsKeepingItInactive_shouldKeepTheDeletionDate() {
+        final Category category = Category.newCategory("film", null, false);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Instant later = category.getDeletedAt().plusSeconds(60);
+        final Category updatedCategory = categoryGateway.updateIfExists(
+            Category.from(category.getId(), "filmes", null, false, later, later, later)
+        ).orElseThrow();
+
+        assertEquals(category.getDeletedAt().toEpochMilli(), updatedCategory.getDeletedAt().toEpochMilli());
+    }
+
+    @Test
+    public void givenANotPersistedCategory_whenCallUpdateIfExists_shouldReturnEmpty() {
+        final Category category = Category.newCategory("filmes", null, true);
+
+        assertTrue(categoryGateway.updateIfExists(category).isEmpty());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenTheCurrentVersion_whenCallUpdateIfExists_shouldUpdateAndIncrementTheVersion() {
+        final Category category = Category.newCategory("film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Instant now = Instant.now();
+        final Category firstUpdate = categoryGateway.updateIfExists(
+            Category.from(category.getId(), "filmes", null, true, now, now, null), 0
+        ).orElseThrow();
+        final Category secondUpdate = categoryGateway.updateIfExists(
+            Category.from(category.getId(), "séries", null, true, now, now, null), 1
+        ).orElseThrow();
+
+        assertEquals(1, firstUpdate.getVersion());
+        assertEquals(2, secondUpdate.getVersion());
+        assertEquals("séries", secondUpdate.getName());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallUpdateIfExists_shouldThrowConflictException() {
+        final Category category = Category.newCategory("film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Instant now = Instant.now();
+        categoryGateway.updateIfExists(Category.from(category.getId(), "filmes", null, true, now, now, null));
+
+        final ConflictException exception = assertThrows(
+            ConflictException.class,
+            () -> categoryGateway.updateIfExists(Category.from(category.getId(), "séries", null, true, now, now, null), 0)
+        );
+
+        assertEquals("Category with id " + category.getId() + " is not at version 0", exception.getMessage());
+
+        entityManager.clear();
+        final CategoryJpaEntity foundCategory = categoryRepository.findById(category.getId().getValue()).orElseThrow();
+
+        assertEquals("filmes", foundCategory.getName());
+        assertEquals(1, foundCategory.getVersion());
+    }
+
+    @Test
+    public void givenANotPersistedCategory_whenCallUpdateIfExistsWithVersion_shouldReturnEmpty() {
+        final Category category = Category.newCategory("filmes", null, true);
+
+        assertTrue(categoryGateway.updateIfExists(category, 0).isEmpty());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallExportAll_shouldStreamEveryCategoryOrderedById() {
+        final List<Category> categories = List.of(
+            Category.newCategory("filmes", null, true),
+            Category.newCategory("séries", "séries", false),
+            Category.newCategory("documentários", "documentários", true)
+        );
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final List<CategorySummary> exported = new ArrayList<>();
+        final long count = categoryGateway.exportAll(exported::add);
+
+        assertEquals(3, count);
+        assertEquals(
+            categories.stream().map(Category::getId).sorted(Comparator.comparing(CategoryID::getValue)).toList(),
+            exported.stream().map(CategorySummary::id).toList()
+        );
+
+        final CategorySummary series = exported.stream()
+            .filter(summary -> summary.name().equals("séries"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("séries", series.description());
+        assertFalse(series.isActive());
+        assertNotNull(series.deletedAt());
+    }
+
+    @Test
+    public void givenNoCategories_whenCallExportAll_shouldNotCallConsumer() {
+        entityManager.flush();
+
+        final List<CategorySummary> exported = new ArrayList<>();
+
+        assertEquals(0, categoryGateway.exportAll(exported::add));
+        assertTrue(exported.isEmpty());
+    }
+
+    @Test
+    public void givenManyCategories_whenCallImportAll_shouldPersistAllOfThem() {
+        final int expectedCount = CategoryImport.INSERT_CHUNK_SIZE + 1;
+        final List<Category> categories = IntStream.range(0, expectedCount)
+            .mapToObj(index -> Category.newCategory("category " + index, index % 2 == 0 ? null : "description", true))
+            .toList();
+
+        final long imported = categoryGateway.importAll(categories.iterator());
+
+        assertEquals(expectedCount, imported);
+        assertEquals(expectedCount, categoryRepository.count());
+
+        final Category last = categories.get(expectedCount - 1);
+        final Category persisted = categoryGateway.findById(last.getId()).orElseThrow();
+        assertEquals(last.getName(), persisted.getName());
+        assertEquals(last.getDescription(), persisted.getDescription());
+        assertEquals(0, persisted.getVersion());
+    }
+
+    @Test
+    public void givenNoCategories_whenCallImportAll_shouldReturnZero() {
+        assertEquals(0, categoryGateway.importAll(List.<Category>of().iterator()));
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenASavedCategory_whenCallFindByIdRepeatedly_shouldServeItFromTheSecondLevelCache() {
+        final Category category = Category.newCategory("filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        categoryGateway.findById(category.getId());
+        categoryGateway.findById(category.getId());
+
+        assertEquals(2, statistics.getDomainDataRegionStatistics(CategoryJpaEntity.CACHE_REGION).getHitCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenACachedCategory_whenCallUpdateIfExists_shouldEvictItFromTheSecondLevelCache() {
+        final Category category = Category.newCategory("filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        categoryGateway.findById(category.getId());
+
+        categoryGateway.updateIfExists(category.update("séries", null, true));
+
+        assertEquals("séries", categoryGateway.findById(category.getId()).get().getName());
+        assertEquals(1, categoryGateway.findById(category.getId()).get().getVersion());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenARepeatedListing_whenCallFindAll_shouldUseTheQueryCacheUntilCategoriesAreInserted() {
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("filmes", null, true)));
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        assertEquals(1, categoryGateway.findAll(query).total());
+        assertEquals(1, categoryGateway.findAll(query).total());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        categoryGateway.createAll(List.of(Category.newCategory("séries", null, true)));
+
+        assertEquals(2, categoryGateway.findAll(query).total());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenSearchesLaterPagesAndCursors_whenCallFindAll_shouldNotFillTheQueryCache() {
+        categoryGateway.createAll(List.of(
+            Category.newCategory("filmes", null, true),
+            Category.newCategory("séries", null, true)
+        ));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        categoryGateway.findAll(new CategorySearchQuery(0, 1, "filmes", "name", "asc"));
+        categoryGateway.findAll(new CategorySearchQuery(1, 1, "", "name", "asc"));
+        categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor()));
+
+        assertEquals(0, statistics.getQueryCachePutCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenFilteredCounts_whenCallFindAll_shouldLeaveTheQueryCacheEmpty() {
+        categoryGateway.createAll(List.of(
+            Category.newCategory("filmes", null, true),
+            Category.newCategory("filmes antigos", null, true)
+        ));
+
+        final Pagination<Category> firstPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "filmes", "name", "asc", null, CountStrategy.EXACT)
+        );
+
+        final Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        final Pagination<Category> nextPage = categoryGateway.findAll(
+            new CategorySearchQuery(0, 1, "filmes", "name", "asc", firstPage.nextCursor(), CountStrategy.EXACT)
+        );
+        final Pagination<Category> pastTheEnd = categoryGateway.findAll(
+            new CategorySearchQuery(5, 1, "filmes", "name", "asc", null, CountStrategy.EXACT)
+        );
+
+        assertEquals(2, nextPage.total());
+        assertEquals(2, pastTheEnd.total());
+        assertEquals(0, statistics.getQueryCachePutCount());
+    }
 }
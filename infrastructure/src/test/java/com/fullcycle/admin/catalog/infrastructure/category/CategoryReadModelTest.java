@@ -0,0 +1,261 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.PostgreSQLGatewayTest;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.domain.pagination.CountStrategy;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.domain.pagination.SearchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@PostgreSQLGatewayTest
+public class CategoryReadModelTest {
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CategoryJdbcGateway categoryGateway;
+
+    private CategoryReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        // the clean up runs through JPA, so flush it before reading with plain JDBC
+        entityManager.flush();
+
+        categoryGateway = new CategoryJdbcGateway(jdbcTemplate, transactionTemplate);
+        readModel = new CategoryReadModel(
+            jdbcTemplate,
+            Duration.ofSeconds(5),
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    public void givenAnUnloadedModel_whenCallIsAvailable_shouldReturnFalse() {
+        assertFalse(readModel.isAvailable());
+
+        readModel.refresh();
+
+        assertTrue(readModel.isAvailable());
+        assertEquals(0, readModel.size());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallFindAll_shouldMatchTheDatabasePages() {
+        categoryGateway.createAll(List.of(
+            Category.newCategory("filmes", "a mais assistida", true),
+            Category.newCategory("series", "maratonas", true),
+            Category.newCategory("documentarios", "longas", false),
+            Category.newCategory("animes", "a mais assistida por jovens", true),
+            Category.newCategory("kids", "desenhos", true)
+        ));
+        readModel.refresh();
+
+        for (final CategorySearchQuery query : List.of(
+            new CategorySearchQuery(0, 2, "", "name", "asc"),
+            new CategorySearchQuery(1, 2, "", "name", "desc"),
+            new CategorySearchQuery(2, 2, "", "name", "asc"),
+            new CategorySearchQuery(5, 2, "", "name", "asc"),
+            new CategorySearchQuery(0, 10, "", "description", "asc"),
+            new CategorySearchQuery(0, 10, "", "description", "desc"),
+            new CategorySearchQuery(0, 1, "MAIS", "name", "asc"),
+            new CategorySearchQuery(1, 1, "mais", "name", "desc"),
+            new CategorySearchQuery(0, 2, "", "name", "asc", null, CountStrategy.NONE)
+        )) {
+            assertEquals(categoryGateway.findAllSummaries(query), readModel.findAll(query), query.toString());
+        }
+    }
+
+    @Test
+    public void givenMixedCaseAndAccentedNames_whenCallFindAll_shouldOrderThemLikeTheDatabase() {
+        categoryGateway.createAll(List.of(
+            Category.newCategory("Zumbis", "Terror", true),
+            Category.newCategory("animes", "desenhos", true),
+            Category.newCategory("Ação", "Éxitos", true),
+            Category.newCategory("ação", "explosões", true),
+            Category.newCategory("Éden", "Drama", true),
+            Category.newCategory("eden", "drama", true),
+            Category.newCategory("Filmes", "Aventura", true)
+        ));
+        readModel.refresh();
+
+        assertEquals(
+            List.of("Ação", "Filmes", "Zumbis", "animes", "ação", "eden", "Éden"),
+            readModel.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).items().stream()
+                .map(CategorySummary::name)
+                .toList()
+        );
+
+        for (final CategorySearchQuery query : List.of(
+            new CategorySearchQuery(0, 10, "", "name", "asc"),
+            new CategorySearchQuery(0, 10, "", "name", "desc"),
+            new CategorySearchQuery(1, 3, "", "name", "asc"),
+            new CategorySearchQuery(0, 10, "", "description", "asc"),
+            new CategorySearchQuery(0, 10, "", "description", "desc"),
+            new CategorySearchQuery(0, 2, "ação", "name", "asc")
+        )) {
+            assertEquals(categoryGateway.findAllSummaries(query), readModel.findAll(query), query.toString());
+        }
+
+        String cursor = null;
+        do {
+            final CategorySearchQuery query = new CategorySearchQuery(0, 2, "", "name", "desc", cursor);
+            final Pagination<CategorySummary> expected = categoryGateway.findAllSummaries(query);
+            assertEquals(expected, readModel.findAll(query), query.toString());
+            cursor = expected.nextCursor();
+        } while (cursor != null);
+    }
+
+    @Test
+    public void givenFollowCursors_whenCallFindAll_shouldSeekLikeTheDatabase() {
+        categoryGateway.createAll(List.of(
+            Category.newCategory("filmes", null, true),
+            Category.newCategory("series", null, true),
+            Category.newCategory("documentarios", null, true)
+        ));
+        readModel.refresh();
+
+        final Pagination<CategorySummary> firstPage =
+            readModel.findAll(new CategorySearchQuery(0, 1, "", "name", "desc", null));
+        final Pagination<CategorySummary> secondPage =
+            readModel.findAll(new CategorySearchQuery(0, 1, "", "name", "desc", firstPage.nextCursor()));
+        final Pagination<CategorySummary> thirdPage =
+            readModel.findAll(new CategorySearchQuery(0, 1, "", "name", "desc", secondPage.nextCursor()));
+        final Pagination<CategorySummary> backToSecond =
+            readModel.findAll(new CategorySearchQuery(0, 1, "", "name", "desc", thirdPage.prevCursor()));
+
+        assertEquals("series", firstPage.items().get(0).name());
+        assertEquals("filmes", secondPage.items().get(0).name());
+        assertEquals("documentarios", thirdPage.items().get(0).name());
+        assertNull(thirdPage.nextCursor());
+        assertEquals(secondPage, backToSecond);
+        assertEquals(
+            categoryGateway.findAllSummaries(new CategorySearchQuery(0, 1, "", "name", "desc", firstPage.nextCursor())),
+            secondPage
+        );
+    }
+
+    @Test
+    public void givenAnUnsupportedQuery_whenCallSupports_shouldReturnFalse() {
+        readModel.refresh();
+
+        assertFalse(readModel.supports(new CategorySearchQuery(0, 10, "filmes", "name", "asc", null, null, SearchMode.FULL_TEXT)));
+        assertFalse(readModel.supports(new CategorySearchQuery(0, 10, "", "version", "asc")));
+        assertTrue(readModel.supports(new CategorySearchQuery(0, 10, "", "createdAt", "asc")));
+
+        final DomainException actualException = assertThrows(
+            DomainException.class,
+            () -> readModel.findAll(new CategorySearchQuery(0, 10, "", "description", "asc", "not-a-cursor"))
+        );
+        assertEquals("'cursor' is invalid", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallRefresh_shouldApplyItIncrementally() {
+        final Category category = categoryGateway.create(Category.newCategory("film", null, true));
+        categoryGateway.create(Category.newCategory("series", null, true));
+        readModel.refresh();
+
+        final Category updated = categoryGateway.update(category.update("zumbis", "filmes", true));
+        categoryGateway.create(Category.newCategory("animes", null, true));
+
+        assertEquals("film", readModel.findById(category.getId()).orElseThrow().name());
+
+        readModel.refresh();
+
+        assertEquals(3, readModel.size());
+        assertEquals(updated.getVersion(), readModel.findById(category.getId()).orElseThrow().version());
+        assertEquals(
+            List.of("animes", "series", "zumbis"),
+            readModel.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).items().stream()
+                .map(CategorySummary::name)
+                .toList()
+        );
+    }
+
+    @Test
+    public void givenACategoryDeletedOutsideTheService_whenCallRefresh_shouldDropIt() {
+        final Category deleted = categoryGateway.create(Category.newCategory("filmes", null, true));
+        final Category kept = categoryGateway.create(Category.newCategory("series", null, true));
+        readModel.refresh();
+
+        jdbcTemplate.update(
+            "DELETE FROM category WHERE id = :id",
+            new MapSqlParameterSource("id", deleted.getId().getValue())
+        );
+        categoryGateway.create(Category.newCategory("animes", null, true));
+
+        readModel.refresh();
+
+        assertTrue(readModel.findById(deleted.getId()).isEmpty());
+        assertTrue(readModel.findById(kept.getId()).isPresent());
+        assertEquals(2, readModel.size());
+        assertEquals(
+            List.of("animes", "series"),
+            readModel.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).items().stream()
+                .map(CategorySummary::name)
+                .toList()
+        );
+    }
+
+    @Test
+    public void givenABulkChange_whenCallReload_shouldStopServingWithoutReloadingInline() {
+        categoryGateway.create(Category.newCategory("filmes", null, true));
+        readModel.refresh();
+
+        categoryGateway.create(Category.newCategory("series", null, true));
+        readModel.reload();
+
+        assertFalse(readModel.isAvailable());
+        assertEquals(1, readModel.size());
+
+        readModel.refresh();
+
+        assertTrue(readModel.isAvailable());
+        assertEquals(2, readModel.size());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallReloadById_shouldRemoveIt() {
+        final Category deleted = categoryGateway.create(Category.newCategory("filmes", null, true));
+        final Category kept = categoryGateway.create(Category.newCategory("series", null, true));
+        readModel.refresh();
+
+        categoryGateway.deleteById(deleted.getId());
+        readModel.reload(List.of(deleted.getId(), kept.getId()));
+
+        assertTrue(readModel.findById(deleted.getId()).isEmpty());
+        assertTrue(readModel.findById(kept.getId()).isPresent());
+        assertEquals(
+            List.of(kept.getId()),
+            readModel.findAll(new CategorySearchQuery(0, 10, "", "createdAt", "desc")).items().stream()
+                .map(CategorySummary::id)
+                .toList()
+        );
+    }
+}
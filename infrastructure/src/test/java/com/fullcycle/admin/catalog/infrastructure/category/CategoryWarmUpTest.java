@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryWarmUpTest {
+    @Mock
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Mock
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenKeysFromThePreviousRun_whenCallWarmUp_shouldPreloadThemAndResetTheCounters() throws Exception {
+        final Path file = directory.resolve("category-hot-keys.json");
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        new CategoryHotKeys.Snapshot(List.of("a", "gone"), List.of(CategoryHotKeys.Query.from(query))).save(file);
+
+        when(getCategoryByIdUseCase.execute("a"))
+            .thenReturn(CategoryOutput.from(Category.newCategory("Movies", null, true)));
+        when(getCategoryByIdUseCase.execute("gone")).thenThrow(NotFoundException.from(Category.class, "gone"));
+
+        final CategoryHotKeys hotKeys = new CategoryHotKeys(100);
+        hotKeys.recordCategory("a");
+
+        final int loaded = warmUpOf(hotKeys, file, Duration.ofSeconds(30)).warmUp();
+
+        assertEquals(2, loaded);
+        verify(getCategoryByIdUseCase).execute("a");
+        verify(getCategoryByIdUseCase).execute("gone");
+        verify(listCategoriesUseCase).execute(query);
+        assertTrue(hotKeys.snapshot(10, 10).categories().isEmpty());
+    }
+
+    @Test
+    public void givenAnExhaustedTimeout_whenCallWarmUp_shouldStopLoading() throws Exception {
+        final Path file = directory.resolve("category-hot-keys.json");
+        new CategoryHotKeys.Snapshot(List.of("a"), List.of()).save(file);
+
+        assertEquals(0, warmUpOf(new CategoryHotKeys(100), file, Duration.ofNanos(-1)).warmUp());
+        verifyNoInteractions(getCategoryByIdUseCase, listCategoriesUseCase);
+    }
+
+    @Test
+    public void givenAMissingOrCorruptFile_whenCallWarmUp_shouldStartCold() throws Exception {
+        final Path file = directory.resolve("category-hot-keys.json");
+
+        assertEquals(0, warmUpOf(new CategoryHotKeys(100), file, Duration.ofSeconds(30)).warmUp());
+
+        Files.writeString(file, "{not json");
+
+        assertEquals(0, warmUpOf(new CategoryHotKeys(100), file, Duration.ofSeconds(30)).warmUp());
+        verifyNoInteractions(getCategoryByIdUseCase, listCategoriesUseCase);
+    }
+
+    @Test
+    public void givenRecordedTraffic_whenDestroyed_shouldPersistTheHottestKeys() throws Exception {
+        final Path file = directory.resolve("category-hot-keys.json");
+        final CategoryHotKeys hotKeys = new CategoryHotKeys(100);
+        hotKeys.recordCategory("a");
+        hotKeys.recordCategory("b");
+        hotKeys.recordCategory("b");
+
+        warmUpOf(hotKeys, file, Duration.ofSeconds(30)).destroy();
+
+        assertEquals(List.of("b", "a"), CategoryHotKeys.Snapshot.load(file).categories());
+    }
+
+    private CategoryWarmUp warmUpOf(final CategoryHotKeys hotKeys, final Path file, final Duration timeout) {
+        return new CategoryWarmUp(hotKeys, getCategoryByIdUseCase, listCategoriesUseCase, file, 10, 10, timeout);
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalog.infrastructure.category;
+
+import com.fullcycle.admin.catalog.domain.category.Category;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.category.CategorySummary;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicatedCategoryGatewayTest {
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CategoryReadModel readModel;
+
+    private ReplicatedCategoryGateway replicatedGateway;
+
+    @BeforeEach
+    void setUp() {
+        replicatedGateway = new ReplicatedCategoryGateway(categoryGateway, readModel);
+    }
+
+    @Test
+    public void givenAnAvailableReadModel_whenCallFindAll_shouldNotHitTheGateway() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final CategorySummary summary = CategorySummary.from(Category.newCategory("filmes", null, true));
+        final Pagination<CategorySummary> page = new Pagination<>(0, 10, 1, List.of(summary));
+        when(readModel.isAvailable()).thenReturn(true);
+        when(readModel.supports(query)).thenReturn(true);
+        when(readModel.findAll(query)).thenReturn(page);
+
+        assertEquals(page, replicatedGateway.findAllSummaries(query));
+        assertEquals(List.of(summary.toCategory().getId()), replicatedGateway.findAll(query).items().stream()
+            .map(Category::getId)
+            .toList());
+        verify(categoryGateway, never()).findAllSummaries(any());
+    }
+
+    @Test
+    public void givenAnUnavailableReadModel_whenCallFindAllOrFindById_shouldUseTheGateway() {
+        final Category category = Category.newCategory("filmes", null, true);
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final Pagination<CategorySummary> page = new Pagination<>(0, 10, 0, List.of());
+        when(readModel.isAvailable()).thenReturn(false);
+        when(categoryGateway.findAllSummaries(query)).thenReturn(page);
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+
+        assertEquals(page, replicatedGateway.findAllSummaries(query));
+        assertEquals(Optional.of(category), replicatedGateway.findById(category.getId()));
+        verify(readModel, never()).findAll(any());
+        verify(readModel, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnAvailableReadModelMissingTheCategory_whenCallFindById_shouldFallBackToTheGateway() {
+        final Category category = Category.newCategory("filmes", null, true);
+        when(readModel.isAvailable()).thenReturn(true);
+        when(readModel.findById(category.getId())).thenReturn(Optional.empty());
+        when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+
+        assertEquals(Optional.of(category), replicatedGateway.findById(category.getId()));
+    }
+
+    @Test
+    public void givenAFailedWrite_whenCallUpdate_shouldStillReloadTheCategory() {
+        final Category category = Category.newCategory("filmes", null, true);
+        when(categoryGateway.update(category)).thenThrow(new IllegalStateException("gateway error"));
+
+        assertThrows(IllegalStateException.class, () -> replicatedGateway.update(category));
+
+        verify(readModel).reload(List.of(category.getId()));
+    }
+
+    @Test
+    public void givenAFilteredDelete_whenCallDeleteAll_shouldReloadTheWholeModel() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        when(categoryGateway.deleteAll(query)).thenReturn(3L);
+
+        assertEquals(3L, replicatedGateway.deleteAll(query));
+
+        verify(readModel).reload();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalog.infrastructure.category.parser;
+
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalog.infrastructure.category.models.CreateCategoryRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CategoryBatchParserTest {
+    @Test
+    public void givenAJsonArray_whenParse_shouldReturnOneRequestPerItem() {
+        final List<CreateCategoryRequest> requests = parse("""
+            [{"name":"filmes","description":"filmes","is_active":false},{"name":"séries"}]
+            """, 2);
+
+        assertEquals(List.of(
+            new CreateCategoryRequest("filmes", "filmes", false),
+            new CreateCategoryRequest("séries", null, null)
+        ), requests);
+    }
+
+    @Test
+    public void givenMoreItemsThanTheMaxSize_whenParse_shouldFailBeforeReadingTheRest() {
+        final DomainException actualException = assertThrows(
+            DomainException.class,
+            () -> parse("[{\"name\":\"filmes\"},{\"name\":\"séries\"},not json", 1)
+        );
+
+        assertEquals(
+            "'categories' must have at most 1 items, use POST /categories/import for larger loads",
+            actualException.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    public void givenABodyThatIsNotAnArrayOfObjects_whenParse_shouldFail() {
+        for (final String body : List.of("{\"name\":\"filmes\"}", "[null]", "[{\"name\":", "")) {
+            final DomainException actualException = assertThrows(DomainException.class, () -> parse(body, 10), body);
+
+            assertEquals("'categories' must be a JSON array of objects", actualException.getErrors().get(0).message());
+        }
+    }
+
+    private static List<CreateCategoryRequest> parse(final String body, final int maxSize) {
+        return CategoryBatchParser.of(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), maxSize);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalog.infrastructure.category.parser;
+
+import com.fullcycle.admin.catalog.application.category.create.ImportCategoryCommand;
+import com.fullcycle.admin.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CategoryImportParserTest {
+    @Test
+    public void givenNdjson_whenParse_shouldReturnOneCommandPerNonBlankLine() {
+        final String body = """
+            {"name":"filmes","description":"filmes","is_active":false}
+
+            {"name":"séries"}
+            not json
+            """;
+
+        final List<ImportCategoryCommand> commands = parse(MediaType.APPLICATION_NDJSON, body);
+
+        assertEquals(3, commands.size());
+        assertEquals(ImportCategoryCommand.from(1, "filmes", "filmes", false), commands.get(0));
+        assertEquals(ImportCategoryCommand.from(3, "séries", null, true), commands.get(1));
+        assertTrue(commands.get(2).isMalformed());
+        assertEquals(4, commands.get(2).line());
+        assertEquals("'line' must be a JSON object", commands.get(2).error().message());
+    }
+
+    @Test
+    public void givenCsv_whenParse_shouldMapColumnsByHeader() {
+        final String body = "is_active,name,description\r\n"
+            + "false,filmes,\"filmes, \"\"clássicos\"\"\"\r\n"
+            + "\r\n"
+            + ",\"séries\nem várias linhas\",\n"
+            + "true,desenhos,\"\"\n";
+
+        final List<ImportCategoryCommand> commands = parse(CategoryImportParser.TEXT_CSV, body);
+
+        assertEquals(3, commands.size());
+        assertEquals(ImportCategoryCommand.from(2, "filmes", "filmes, \"clássicos\"", false), commands.get(0));
+        assertEquals(ImportCategoryCommand.from(4, "séries\nem várias linhas", null, true), commands.get(1));
+        assertEquals(ImportCategoryCommand.from(6, "desenhos", "", true), commands.get(2));
+    }
+
+    @Test
+    public void givenCsvWithBadRecords_whenParse_shouldReturnMalformedCommands() {
+        final String body = """
+            name,is_active
+            filmes
+            séries,maybe
+            desenhos,true""";
+
+        final List<ImportCategoryCommand> commands = parse(CategoryImportParser.TEXT_CSV, body);
+
+        assertEquals(3, commands.size());
+        assertEquals("'line' has 1 fields but the header has 2", commands.get(0).error().message());
+        assertEquals(2, commands.get(0).line());
+        assertEquals("'is_active' must be true or false", commands.get(1).error().message());
+        assertEquals(3, commands.get(1).line());
+        assertFalse(commands.get(2).isMalformed());
+        assertNull(commands.get(2).description());
+    }
+
+    @Test
+    public void givenCsvWithoutNameColumn_whenParse_shouldThrowDomainException() {
+        final DomainException exception = assertThrows(
+            DomainException.class,
+            () -> parse(CategoryImportParser.TEXT_CSV, "description,is_active\nfilmes,true\n")
+        );
+
+        assertEquals("'header' must contain a 'name' column", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUnsupportedContentType_whenParse_shouldThrowDomainException() {
+        assertThrows(DomainException.class, () -> parse(MediaType.APPLICATION_XML, "<category/>"));
+    }
+
+    private static List<ImportCategoryCommand> parse(final MediaType contentType, final String body) {
+        final List<ImportCategoryCommand> commands = new ArrayList<>();
+        CategoryImportParser.of(contentType, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+            .forEachRemaining(commands::add);
+        return commands;
+    }
+}
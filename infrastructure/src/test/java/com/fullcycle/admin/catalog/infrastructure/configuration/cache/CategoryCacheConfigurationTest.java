@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.cache;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalog.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import com.fullcycle.admin.catalog.infrastructure.category.CachedCategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@IntegrationTest
+public class CategoryCacheConfigurationTest {
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void givenTheApplicationContext_whenInjectingCategoryGateway_shouldReceiveTheCachedGateway() {
+        assertInstanceOf(CachedCategoryGateway.class, categoryGateway);
+    }
+
+    @Test
+    public void givenRepeatedLookups_whenCallGetCategoryById_shouldRecordHitsAndServeFreshDataAfterUpdate() {
+        final String id = createCategoryUseCase.execute(CreateCategoryCommand.from("filmes", null, true)).get().id().toString();
+        final double hitsBefore = hits();
+
+        getCategoryByIdUseCase.execute(id);
+        getCategoryByIdUseCase.execute(id);
+
+        assertEquals(hitsBefore + 1, hits());
+
+        updateCategoryUseCase.execute(UpdateCategoryCommand.from(CategoryID.from(id), "séries", null, true));
+
+        assertEquals("séries", getCategoryByIdUseCase.execute(id).name());
+    }
+
+    @Test
+    public void givenRepeatedListings_whenCallListCategories_shouldServeCachedPagesUntilACategoryIsCreated() {
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        createCategoryUseCase.execute(CreateCategoryCommand.from("filmes", null, true));
+
+        final Pagination<CategoryListOutput> first = listCategoriesUseCase.execute(query);
+        final Pagination<CategoryListOutput> second = listCategoriesUseCase.execute(query);
+
+        assertSame(first, second);
+        assertEquals(1, first.total());
+
+        createCategoryUseCase.execute(CreateCategoryCommand.from("séries", null, true));
+
+        assertEquals(2, listCategoriesUseCase.execute(query).total());
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "categories").tag("result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,181 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.datasource;
+
+import com.fullcycle.admin.catalog.IntegrationTest;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalog.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalog.domain.category.CategoryID;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.admin.catalog.infrastructure.category.CatalogVersion;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+    "spring.datasource.replica.jdbc-url=jdbc:h2:mem:adm_videos;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.replica.username=root",
+    "spring.datasource.replica.password=123456",
+    "category.cache.replica-lag=200ms"
+})
+public class DataSourceRoutingConfigurationTest {
+    private static final Duration REPLICA_LAG = Duration.ofMillis(200);
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    @Qualifier("masterDataSource")
+    private HikariDataSource masterDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private CachedCategoryGateway cachedCategoryGateway;
+
+    @SpyBean
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenAReplica_whenCallReadOnlyUseCases_shouldRunThemOnTheReplicaPool() throws Exception {
+        final String id = createCategoryUseCase.execute(CreateCategoryCommand.from("filmes", null, true))
+            .get()
+            .id()
+            .toString();
+        entityManagerFactory.getCache().evictAll();
+        awaitReplicaLag();
+
+        final List<String> routes = recordRoutes();
+
+        final CategoryOutput output = getCategoryByIdUseCase.execute(id);
+        final CategorySearchQuery query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        assertEquals("filmes", output.name());
+        assertEquals(1, listCategoriesUseCase.execute(query).total());
+        assertEquals(List.of("replica", "replica"), routes);
+    }
+
+    @Test
+    public void givenARecentWriteOrInvalidation_whenCacheMissesLoadCategories_shouldReadThemFromMaster() throws Exception {
+        final CategoryID id = CategoryID.from(createCategoryUseCase.execute(CreateCategoryCommand.from("séries", null, true))
+            .get()
+            .id());
+        entityManagerFactory.getCache().evictAll();
+
+        final List<String> routes = recordRoutes();
+
+        assertEquals("séries", getCategoryByIdUseCase.execute(id.toString()).name());
+        assertEquals(List.of("master"), routes);
+
+        awaitReplicaLag();
+        cachedCategoryGateway.invalidate(List.of(id));
+        entityManagerFactory.getCache().evictAll();
+        routes.clear();
+
+        getCategoryByIdUseCase.execute(id.toString());
+        listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "séries", "name", "asc"));
+        assertEquals(List.of("master", "master"), routes);
+
+        awaitReplicaLag();
+        routes.clear();
+
+        listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "filmes", "name", "asc"));
+        assertEquals(List.of("replica"), routes);
+    }
+
+    @Test
+    public void givenAReplica_whenRunningTransactions_shouldRouteByTheReadOnlyFlag() throws Exception {
+        awaitReplicaLag();
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        final String writeRoute = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM category", Long.class);
+            return activeRoute();
+        });
+
+        transactionTemplate.setReadOnly(true);
+        final String readRoute = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM category", Long.class);
+            return activeRoute();
+        });
+
+        assertEquals("master", writeRoute);
+        assertEquals("replica", readRoute);
+    }
+
+    private List<String> recordRoutes() {
+        final List<String> routes = new ArrayList<>();
+        doAnswer(invocation -> {
+            final Object result = invocation.callRealMethod();
+            routes.add(activeRoute());
+            return result;
+        }).when(categoryGateway).findById(any());
+        doAnswer(invocation -> {
+            final Object result = invocation.callRealMethod();
+            routes.add(activeRoute());
+            return result;
+        }).when(categoryGateway).findAllSummaries(any());
+
+        return routes;
+    }
+
+    private void awaitReplicaLag() throws InterruptedException {
+        while (catalogVersion.changedWithin(REPLICA_LAG)) {
+            Thread.sleep(10);
+        }
+    }
+
+    private String activeRoute() {
+        if (activeConnections(replicaDataSource) > 0) {
+            return "replica";
+        }
+
+        return activeConnections(masterDataSource) > 0 ? "master" : "none";
+    }
+
+    private static int activeConnections(final HikariDataSource dataSource) {
+        final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalog.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CoalescingListCategoriesUseCaseTest {
+    @Test
+    public void givenEqualConcurrentQueries_whenCallExecute_shouldShareOneCallToTheDelegate() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Pagination<CategoryListOutput> expected = new Pagination<>(0, 10, 0, List.of());
+
+        final CoalescingListCategoriesUseCase useCase = new CoalescingListCategoriesUseCase(new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return expected;
+            }
+        });
+
+        final CompletableFuture<Pagination<CategoryListOutput>> leader = CompletableFuture.supplyAsync(() ->
+            useCase.execute(new CategorySearchQuery(0, 10, "filmes", "name", "asc")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final CompletableFuture<Pagination<CategoryListOutput>> follower = CompletableFuture.supplyAsync(() ->
+            useCase.execute(new CategorySearchQuery(0, 10, "filmes", "name", "asc")));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+        assertSame(expected, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ETagUtilsTest {
+    @Test
+    public void givenAVersion_whenCallOf_shouldReturnAStrongETag() {
+        assertEquals("\"3\"", ETagUtils.of(3));
+    }
+
+    @Test
+    public void givenIfMatchValues_whenCallVersionOf_shouldParseTheVersion() {
+        assertNull(ETagUtils.versionOf(null));
+        assertNull(ETagUtils.versionOf("*"));
+        assertEquals(3L, ETagUtils.versionOf("\"3\""));
+        assertEquals(ETagUtils.UNMATCHABLE_VERSION, ETagUtils.versionOf("W/\"3\""));
+        assertEquals(ETagUtils.UNMATCHABLE_VERSION, ETagUtils.versionOf(""));
+        assertEquals(ETagUtils.UNMATCHABLE_VERSION, ETagUtils.versionOf(" "));
+        assertEquals(ETagUtils.UNMATCHABLE_VERSION, ETagUtils.versionOf("3"));
+        assertEquals(ETagUtils.UNMATCHABLE_VERSION, ETagUtils.versionOf("\"abc\""));
+    }
+
+    @Test
+    public void givenAFingerprint_whenCallWeakOf_shouldReturnAStableWeakETag() {
+        final String eTag = ETagUtils.weakOf("0:10:1|id@2022-01-01T00:00:00Z");
+
+        assertTrue(eTag.startsWith("W/\""));
+        assertTrue(eTag.endsWith("\""));
+        assertEquals(eTag, ETagUtils.weakOf("0:10:1|id@2022-01-01T00:00:00Z"));
+        assertNotEquals(eTag, ETagUtils.weakOf("0:10:1|id@2022-01-01T00:00:01Z"));
+    }
+
+    @Test
+    public void givenIfNoneMatchValues_whenCallMatches_shouldUseWeakComparison() {
+        assertTrue(ETagUtils.matches("\"1\"", "\"1\""));
+        assertTrue(ETagUtils.matches("W/\"1\"", "\"1\""));
+        assertTrue(ETagUtils.matches("\"1\"", "W/\"1\""));
+        assertTrue(ETagUtils.matches("\"0\", \"1\"", "\"1\""));
+        assertTrue(ETagUtils.matches("*", "\"1\""));
+        assertFalse(ETagUtils.matches("\"2\"", "\"1\""));
+        assertFalse(ETagUtils.matches(null, "\"1\""));
+        assertFalse(ETagUtils.matches(" ", "\"1\""));
+    }
+}
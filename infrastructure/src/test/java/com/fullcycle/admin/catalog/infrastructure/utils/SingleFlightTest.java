@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTest {
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallsForTheSameKey_whenCallExecute_shouldRunTheSupplierOnceAndShareItsResult() throws Exception {
+        final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger arrived = new AtomicInteger();
+        final Object expected = new Object();
+
+        final List<Future<Object>> futures = submit(() -> {
+            arrived.incrementAndGet();
+            return singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return expected;
+            });
+        });
+
+        waitUntil(() -> arrived.get() == CALLERS);
+        Thread.sleep(200);
+        release.countDown();
+
+        for (final Future<Object> future : futures) {
+            assertSame(expected, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void givenAFailingSupplier_whenCallExecuteConcurrently_shouldPropagateTheSameExceptionToEveryCaller() throws Exception {
+        final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger arrived = new AtomicInteger();
+
+        final List<Future<Object>> futures = submit(() -> {
+            arrived.incrementAndGet();
+            return singleFlight.execute("key", () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            });
+        });
+
+        waitUntil(() -> arrived.get() == CALLERS);
+        Thread.sleep(200);
+        release.countDown();
+
+        for (final Future<Object> future : futures) {
+            final ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertEquals("boom", exception.getCause().getMessage());
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void givenSequentialCalls_whenCallExecute_shouldRunTheSupplierEachTime() {
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("key", calls::incrementAndGet);
+        final int second = singleFlight.execute("key", calls::incrementAndGet);
+
+        assertEquals(2, second);
+    }
+
+    @Test
+    public void givenDifferentKeys_whenCallExecuteConcurrently_shouldNotCoalesceThem() throws Exception {
+        final SingleFlight<Integer, Integer> singleFlight = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger key = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+
+        final List<Future<Integer>> futures = submit(() -> {
+            final int own = key.getAndIncrement();
+            return singleFlight.execute(own, () -> {
+                calls.incrementAndGet();
+                await(release);
+                return own;
+            });
+        });
+
+        waitUntil(() -> singleFlight.inFlight() == CALLERS);
+        release.countDown();
+
+        for (final Future<Integer> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(CALLERS, calls.get());
+    }
+
+    private <T> List<Future<T>> submit(final Callable<T> callable) {
+        final List<Future<T>> futures = new ArrayList<>();
+        for (int index = 0; index < CALLERS; index++) {
+            futures.add(executor.submit(callable));
+        }
+        return futures;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition was not met in time");
+            Thread.sleep(1);
+        }
+    }
+}